@@ -0,0 +1,63 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import authoringenvironment.model.ActorCopier;
+import gameengine.model.Actor;
+import gameengine.model.ActorPrototype;
+import gameengine.model.RuleManager;
+import gameengine.model.Triggers.TickTrigger;
+
+/**
+ * Measures the per-Actor costs paid on every frame and on every spawn: sending
+ * a trigger through a RuleManager and copying a template Actor
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ActorBenchmark {
+
+	private RuleManager ruleManager;
+	private TickTrigger tick;
+	private ActorCopier copier;
+	private ActorPrototype prototype;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Actor template = BenchmarkSupport.createActor(0);
+		ruleManager = new RuleManager();
+		for (String trigger : template.getRules().keySet()) {
+			template.getRules().get(trigger).forEach(ruleManager::addRule);
+		}
+		tick = new TickTrigger();
+		copier = new ActorCopier(template);
+		prototype = template.getPrototype();
+	}
+
+	@Benchmark
+	public RuleManager handleTrigger() {
+		ruleManager.handleTrigger(tick);
+		return ruleManager;
+	}
+
+	@Benchmark
+	public Actor makeCopy() {
+		return copier.makeCopy();
+	}
+
+	@Benchmark
+	public Actor acquireAndRecycle() {
+		Actor actor = prototype.acquire();
+		actor.recycle();
+		return actor;
+	}
+}
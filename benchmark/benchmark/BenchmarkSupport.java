@@ -0,0 +1,109 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import gameengine.controller.Game;
+import gameengine.controller.HeadlessClock;
+import gameengine.controller.Level;
+import gameengine.model.Actor;
+import gameengine.model.IPlayActor;
+import gameengine.model.Rule;
+import gameengine.model.Actions.ApplyPhysics;
+import gameengine.model.Actions.HorizontalBounceCollision;
+import gameengine.model.Triggers.SideCollision;
+import gameengine.model.Triggers.TickTrigger;
+
+/**
+ * Builds the synthetic levels shared by the benchmarks. Every level is
+ * generated from a fixed seed so that runs are comparable.
+ */
+public class BenchmarkSupport {
+
+	private static final long SEED = 308;
+	private static final double ACTOR_SIZE = 32;
+	private static final double SPACING = 48;
+	private static final double MAX_SPEED = 3;
+	private static final String ACTOR_NAME = "Block";
+
+	private BenchmarkSupport() {
+	}
+
+	/**
+	 * Creates a template Actor with a physics Rule on every tick and a bounce
+	 * Rule for side collisions with other Actors of the same name
+	 *
+	 * @param id
+	 *            The Actor's ID
+	 * @return The template Actor
+	 */
+	public static Actor createActor(int id) {
+		Actor actor = new Actor();
+		actor.setID(id);
+		actor.setName(ACTOR_NAME);
+		actor.setSize(ACTOR_SIZE);
+		actor.addRule(new Rule(new TickTrigger(), new ApplyPhysics(actor)));
+		actor.addRule(new Rule(new SideCollision(actor, actor, false), new HorizontalBounceCollision(actor)));
+		return actor;
+	}
+
+	/**
+	 * Creates a level with the given number of Actors scattered over a square
+	 * whose area grows with the number of Actors, so the density of contacts
+	 * stays the same
+	 *
+	 * @param actorCount
+	 *            The number of Actors in the level
+	 * @return The level
+	 */
+	public static Level createLevel(int actorCount) {
+		Random random = new Random(SEED);
+		double side = Math.sqrt(actorCount) * SPACING;
+		Level level = new Level();
+		for (int i = 0; i < actorCount; i++) {
+			Actor actor = createActor(i);
+			actor.setX(random.nextDouble() * side);
+			actor.setY(random.nextDouble() * side);
+			actor.setVeloX((random.nextDouble() * 2 - 1) * MAX_SPEED);
+			actor.setVeloY((random.nextDouble() * 2 - 1) * MAX_SPEED);
+			level.addActor(actor);
+		}
+		return level;
+	}
+
+	/**
+	 * Provides the Actors of a level as the list collision detection runs on
+	 *
+	 * @param actorCount
+	 *            The number of Actors in the level
+	 * @return The level's Actors
+	 */
+	public static List<IPlayActor> createActors(int actorCount) {
+		return new ArrayList<>(createLevel(actorCount).getActors());
+	}
+
+	/**
+	 * Creates a started game around a single synthetic level, driven by a
+	 * HeadlessClock that only steps when advanced
+	 *
+	 * @param actorCount
+	 *            The number of Actors in the level
+	 * @return The started game
+	 */
+	public static Game createGame(int actorCount) {
+		List<Level> levels = new ArrayList<>();
+		levels.add(createLevel(actorCount));
+		Game game = new Game(levels);
+		HeadlessClock clock = new HeadlessClock();
+		game.setClock(clock);
+		game.startGame();
+		clock.stop();
+		try {
+			clock.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return game;
+	}
+}
@@ -0,0 +1,49 @@
+package benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import gameengine.model.CollisionDetection;
+import gameengine.model.IPlayActor;
+import gameengine.model.PhysicsEngine;
+
+/**
+ * Measures broad and narrow phase collision detection, including sending the
+ * collision triggers, on a level whose Actors do not move
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollisionDetectionBenchmark {
+
+	@Param({ "100", "1000", "10000" })
+	private int actorCount;
+
+	private List<IPlayActor> actors;
+	private CollisionDetection detection;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		actors = BenchmarkSupport.createActors(actorCount);
+		PhysicsEngine physicsEngine = new PhysicsEngine();
+		for (IPlayActor actor : actors) {
+			actor.setPhysicsEngine(physicsEngine);
+		}
+		detection = new CollisionDetection(physicsEngine);
+	}
+
+	@Benchmark
+	public List<IPlayActor> detection() {
+		return detection.detection(actors);
+	}
+}
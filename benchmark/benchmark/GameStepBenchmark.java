@@ -0,0 +1,43 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import gameengine.controller.Game;
+import gameengine.controller.HeadlessClock;
+
+/**
+ * Measures one full frame of the game loop: collision detection, the tick
+ * Rules, the batch physics pass and the removal of dead Actors
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameStepBenchmark {
+
+	@Param({ "100", "1000", "10000" })
+	private int actorCount;
+
+	private HeadlessClock clock;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Game game = BenchmarkSupport.createGame(actorCount);
+		clock = (HeadlessClock) game.getClock();
+	}
+
+	@Benchmark
+	public long step() {
+		clock.advance(1);
+		return clock.getStepCount();
+	}
+}
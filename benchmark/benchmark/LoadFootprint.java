@@ -0,0 +1,123 @@
+package benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Arrays;
+
+import com.sun.management.ThreadMXBean;
+
+import gamedata.XMLParser;
+
+/**
+ * Reports the load time and the memory footprint of loading every file in
+ * gamefiles/. Memory cannot be measured by JMH, so this runs as a plain
+ * program: each file is loaded a few times to warm up, then timed, then loaded
+ * once more to measure its memory:
+ * - allocatedKB: bytes allocated by the loading thread, counted exactly
+ * - retainedKB: heap still used by the loaded object after a collection
+ * - peakHeapKB: the heap pools' peak usage above their settled size, which
+ *   the collector only tracks in whole regions or chunks, so small files can
+ *   read as 0
+ *
+ * Usage: LoadFootprint [output.csv]
+ */
+public class LoadFootprint {
+
+	private static final String GAME_DIRECTORY = "gamefiles";
+	private static final int WARMUP_LOADS = 3;
+	private static final int TIMED_LOADS = 10;
+	private static final double NANOS_PER_MILLI = 1e6;
+	private static final double BYTES_PER_KILOBYTE = 1024;
+	private static final int SETTLING_COLLECTIONS = 3;
+
+	private LoadFootprint() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		File[] files = new File(GAME_DIRECTORY).listFiles(File::isFile);
+		Arrays.sort(files);
+		XMLParser parser = new XMLParser();
+		try (PrintWriter out = new PrintWriter(args.length > 0 ? args[0] : "load-footprint.csv")) {
+			out.println("file,sizeKB,loaded,medianMillis,allocatedKB,retainedKB,peakHeapKB");
+			for (File file : files) {
+				String row = String.format("%s,%.1f,%b,%.3f,%.1f,%.1f,%.1f", file.getName(),
+						file.length() / BYTES_PER_KILOBYTE, parser.load(file) != null, medianMillis(parser, file),
+						allocatedBytes(parser, file) / BYTES_PER_KILOBYTE,
+						retainedBytes(parser, file) / BYTES_PER_KILOBYTE,
+						peakHeapBytes(parser, file) / BYTES_PER_KILOBYTE);
+				out.println(row);
+				System.out.println(row);
+			}
+		}
+	}
+
+	private static double medianMillis(XMLParser parser, File file) {
+		for (int i = 0; i < WARMUP_LOADS; i++) {
+			parser.load(file);
+		}
+		long[] times = new long[TIMED_LOADS];
+		for (int i = 0; i < TIMED_LOADS; i++) {
+			long start = System.nanoTime();
+			parser.load(file);
+			times[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(times);
+		return times[TIMED_LOADS / 2] / NANOS_PER_MILLI;
+	}
+
+	/**
+	 * Counts the bytes this thread allocates while the file loads
+	 */
+	private static long allocatedBytes(XMLParser parser, File file) {
+		ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long id = Thread.currentThread().getId();
+		long before = threads.getThreadAllocatedBytes(id);
+		parser.load(file);
+		return threads.getThreadAllocatedBytes(id) - before;
+	}
+
+	/**
+	 * Measures the heap the loaded object keeps after a collection
+	 */
+	private static long retainedBytes(XMLParser parser, File file) {
+		long baseline = settledHeapBytes();
+		Object loaded = parser.load(file);
+		long retained = settledHeapBytes() - baseline;
+		return loaded == null ? 0 : Math.max(0, retained);
+	}
+
+	private static long settledHeapBytes() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < SETTLING_COLLECTIONS; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * Measures how far the heap grows above its settled size while the file
+	 * loads
+	 */
+	private static long peakHeapBytes(XMLParser parser, File file) {
+		System.gc();
+		long baseline = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				pool.resetPeakUsage();
+				baseline += pool.getUsage().getUsed();
+			}
+		}
+		parser.load(file);
+		long peak = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+		}
+		return Math.max(0, peak - baseline);
+	}
+}
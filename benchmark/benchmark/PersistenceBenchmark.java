@@ -0,0 +1,95 @@
+package benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gamedata.SnapshotCreator;
+import gamedata.SnapshotParser;
+import gamedata.XMLCreator;
+import gamedata.XMLParser;
+
+/**
+ * Measures loading and saving the game files that ship in gamefiles/, both as
+ * XML and as the binary snapshots the player loads. Loading a file takes only
+ * a few milliseconds and allocates heavily, so each measurement runs for two
+ * seconds to keep garbage collections from dominating the error.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 2)
+public class PersistenceBenchmark {
+
+	private static final String GAME_DIRECTORY = "gamefiles";
+
+	@Param({ "superMarioFinal.xml", "supermario", "FlappyWithPunchSound.xml", "mazeGAE.xml", "DoodleJumpGAE.xml",
+			"GAESpecial.xml", "Pong.xml", "TDS.xml", "maritestwithHUD" })
+	private String gameFile;
+
+	private File file;
+	private File savedFile;
+	private File snapshotFile;
+	private Object game;
+	private XMLParser parser;
+	private XMLCreator creator;
+	private SnapshotParser snapshotParser;
+	private SnapshotCreator snapshotCreator;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		file = new File(GAME_DIRECTORY, gameFile);
+		savedFile = File.createTempFile("benchmark", ".xml");
+		parser = new XMLParser();
+		creator = new XMLCreator();
+		game = parser.load(file);
+		snapshotFile = File.createTempFile("benchmark", ".snapshot");
+		snapshotParser = new SnapshotParser();
+		snapshotCreator = new SnapshotCreator();
+		snapshotCreator.save(game, snapshotFile, file);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		savedFile.delete();
+		snapshotFile.delete();
+	}
+
+	@Benchmark
+	public Object load() {
+		return parser.load(file);
+	}
+
+	@Benchmark
+	public Object loadSnapshot() {
+		return snapshotParser.load(snapshotFile, file);
+	}
+
+	@Benchmark
+	public File saveSnapshot() throws IOException {
+		snapshotCreator.save(game, snapshotFile, file);
+		return snapshotFile;
+	}
+
+	@Benchmark
+	public File save() throws IOException {
+		creator.save(game, savedFile);
+		return savedFile;
+	}
+}
@@ -1,5 +1,6 @@
 package application;
 
+import gamedata.controller.GameCatalog;
 import gameplayer.controller.SplashScreenController;
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -7,10 +8,12 @@ import javafx.stage.Stage;
 public class Main extends Application {
 
 	/**
-	 * Launches the SplashScreen to begin the program 
+	 * Launches the SplashScreen to begin the program, and starts indexing the
+	 * game files in the background so that the game choosers open instantly
 	 */
 	@Override
 	public void start(Stage primaryStage) throws Exception {
+		GameCatalog.getInstance().refresh();
 		Stage myStage = primaryStage;
 		myStage.setResizable(false);
 		SplashScreenController splashScreenController = new SplashScreenController(myStage);
@@ -238,10 +238,13 @@ public class ActorEditingEnvironment implements IEditingEnvironment, Observer {
 	}
 	
 	/**
-	 * Updates all instances of the Actor currently in the environment 
+	 * Updates all instances of the Actor currently in the environment. The
+	 * fields change some of the Actor's properties in place, so the Actor is
+	 * marked as edited for the next autosave.
 	 */
 	@Override
 	public void update(Observable o, Object arg) {
+		myActor.markEdited();
 		myController.updateActors((Actor) arg);
 		if (shouldApplyPhysics()) {
 			myActorRuleCreator.applyPhysics();
@@ -17,6 +17,10 @@ import gameengine.controller.*;
 import gameengine.model.Actor;
 import gameplayer.controller.BranchScreenController;
 import gui.view.*;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
@@ -26,6 +30,7 @@ import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import voogasalad.util.hud.source.*;
 
 /**
@@ -45,6 +50,8 @@ public class Controller extends BranchScreenController implements Observer, IAut
 	private static final String REQUIRES_ARG = "RequiresArg";
 	private static final String PRESET_ACTORS_RESOURCE = "presetActorsFactory";
 	private static final String FINISH_CONFIRMATION_TEXT = "Have you saved your game?";
+	private static final String RECOVER_CONFIRMATION_TEXT = "This game was being edited when the authoring environment last closed unexpectedly. Recover the autosaved changes?";
+	private static final double AUTOSAVE_SECONDS = 30;
 	private List<Level> myLevels;
 	private Map<IAuthoringActor, List<IAuthoringActor>> myActorMap;
 	private LevelEditingEnvironment levelEnvironment;
@@ -62,6 +69,8 @@ public class Controller extends BranchScreenController implements Observer, IAut
 	private MainCharacterManager myMainCharacterManager;
 	private GamePreviewImageSetter myGamePreviewImageSetter;
 	private AlertGenerator myAlertGenerator;
+	private IAutosaveController myAutosaveController;
+	private Timeline myAutosaveTimeline;
 
 	public Controller(Stage myStage) throws NoSuchMethodException, SecurityException, IllegalAccessException,
 			IllegalArgumentException, InvocationTargetException {
@@ -72,7 +81,9 @@ public class Controller extends BranchScreenController implements Observer, IAut
 	public Controller(Game game, Stage myStage) {
 		super(myStage, EDITING_CONTROLLER_RESOURCE);
 		this.game = game;
+		myAutosaveController = new AutosaveController(game);
 		initExistingGame();
+		recoverAutosave();
 	}
 
 	/**
@@ -90,9 +101,11 @@ public class Controller extends BranchScreenController implements Observer, IAut
 		myActorMap = new HashMap<>();
 		gameInfo = new GameInfo(myActorMap);
 		game = new Game(gameInfo, myLevels);
+		myAutosaveController = new AutosaveController(game);
 		initializeGeneralComponents();
 		initializePresetActors();
 		addDefaultLevel();
+		recoverAutosave();
 	}
 
 	/**
@@ -118,6 +131,62 @@ public class Controller extends BranchScreenController implements Observer, IAut
 		myActorMap.keySet().stream().forEach(actor -> myGameEditingEnvironment.createActorPreviewUnit(actor));
 	}
 
+	/**
+	 * Offers to recover the Game from the autosaves left by a session that
+	 * did not close, then starts autosaving. The autosaves are read in the
+	 * background while the authoring environment is disabled, and the
+	 * recovered Game replaces the one being edited once they have been read.
+	 * Autosaves that the author does not recover are deleted.
+	 */
+	private void recoverAutosave() {
+		if (!myAutosaveController.hasAutosave()) {
+			startAutosave();
+			return;
+		}
+		Alert alert = new Alert(AlertType.CONFIRMATION);
+		alert.setContentText(RECOVER_CONFIRMATION_TEXT);
+		Optional<ButtonType> result = alert.showAndWait();
+		if (!result.isPresent() || result.get() != ButtonType.OK) {
+			finishRecovery(null);
+			return;
+		}
+		myRoot.setDisable(true);
+		myAutosaveController.restore()
+				.whenComplete((recovered, error) -> Platform.runLater(() -> finishRecovery(recovered)));
+	}
+
+	/**
+	 * Edits the Game recovered from the autosaves, or deletes the autosaves if
+	 * none was recovered, and starts autosaving
+	 * 
+	 * @param recovered
+	 *            The recovered Game, or null
+	 */
+	private void finishRecovery(IGame recovered) {
+		if (recovered == null) {
+			myAutosaveController.discard();
+			myRoot.setDisable(false);
+		} else {
+			game = (Game) recovered;
+			myAutosaveController.setGame(game);
+			initExistingGame();
+		}
+		startAutosave();
+	}
+
+	/**
+	 * Autosaves the Game periodically. Only the levels and actors edited since
+	 * the last autosave are serialized on the FX thread, and they are written
+	 * to disk in the background. The editing environments mark what they
+	 * change in place as edited.
+	 */
+	private void startAutosave() {
+		myAutosaveTimeline = new Timeline(
+				new KeyFrame(Duration.seconds(AUTOSAVE_SECONDS), e -> myAutosaveController.autosave()));
+		myAutosaveTimeline.setCycleCount(Animation.INDEFINITE);
+		myAutosaveTimeline.play();
+	}
+
 	/**
 	 * Initializes controller components that remain the same regardless of
 	 * whether the Game to be edited is new or previously created
@@ -229,8 +298,8 @@ public class Controller extends BranchScreenController implements Observer, IAut
 	}
 
 	/**
-	 * Switches screen to appropriate editing environment
-	 * 
+	 * Switches screen to appropriate editing environment.
+	 *
 	 * @param editable:
 	 *            Level or Actor to edit
 	 * @param environment:
@@ -336,8 +405,11 @@ public class Controller extends BranchScreenController implements Observer, IAut
 		Alert alert = new Alert(AlertType.CONFIRMATION);
 		alert.setContentText(FINISH_CONFIRMATION_TEXT);
 		Optional<ButtonType> result = alert.showAndWait();
-		if (result.get() == ButtonType.OK)
+		if (result.get() == ButtonType.OK) {
+			myAutosaveTimeline.stop();
+			myAutosaveController.close();
 			super.goToSplash();
+		}
 	}
 
 	/**
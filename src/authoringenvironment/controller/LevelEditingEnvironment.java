@@ -300,10 +300,13 @@ public class LevelEditingEnvironment implements IEditingEnvironment, Observer {
 	}
 
 	/**
-	 * Update background or level preview.
+	 * Update background or level preview. The inspector changes some of the
+	 * level's properties in place, so the level is marked as edited for the
+	 * next autosave.
 	 */
 	@Override
 	public void update(Observable o, Object arg) {
+		myLevel.markEdited();
 		if (arg == null) {
 			myLevel.setMyBackgroundHeight(myLevelEditingPreview.resizeBackgroundBasedOnScrolling());
 		} else {
@@ -39,11 +39,9 @@ public class ActionFactory {
 	@XStreamOmitField
 	private ResourceBundle myResources;
 	private List<Object> arguments;
-	private AlertGenerator myAlertGenerator;
 
 	public ActionFactory() {
 		this.myResources = ResourceBundle.getBundle(ACTION_RESOURCE);
-		this.myAlertGenerator = new AlertGenerator();
 	}
 
 	/**
@@ -84,7 +82,7 @@ public class ActionFactory {
 			Method createMethod = this.getClass().getDeclaredMethod(CREATE + actionType, String.class, String.class);
 			return (IAction) createMethod.invoke(this, behaviorType, className);
 		} catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-			myAlertGenerator.generateAlert(e.getClass().toString());
+			new AlertGenerator().generateAlert(e.getClass().toString());
 		} 
 		return null;
 	}
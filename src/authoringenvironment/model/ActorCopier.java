@@ -10,7 +10,6 @@ import authoringenvironment.view.AlertGenerator;
 import gameengine.model.*;
 import gameengine.model.Actions.Action;
 import gameengine.model.Triggers.ITrigger;
-import javafx.scene.image.*;
 
 /**
  * Actor copying class
@@ -88,10 +87,41 @@ public class ActorCopier {
 	 * @param toCopy: actor to copy.
 	 */
 	public void copyActor(Actor toUpdate, Actor toCopy) {
+		copyProperties(toUpdate, toCopy);
+		copyRules(toUpdate, toCopy.getRules());
+	}
+
+	/**
+	 * Copies everything but the rules of the actor, showing the copied image
+	 * in the actor's ImageView.
+	 * @param toUpdate: new actor.
+	 * @param toCopy: actor to copy.
+	 */
+	public void copyProperties(Actor toUpdate, Actor toCopy) {
+		toUpdate.resetImageView(toCopy.getImageViewName());
+		copyViewProperties(toUpdate, toCopy);
+	}
+
+	/**
+	 * Copies everything but the rules of the actor onto an earlier copy of it,
+	 * reusing the copy's ImageView.
+	 * @param toUpdate: earlier copy of the actor.
+	 * @param toCopy: actor to copy.
+	 */
+	public void resetProperties(Actor toUpdate, Actor toCopy) {
+		toUpdate.getAttributeMap().clear();
+		toUpdate.resetImageView(toCopy.getImageViewName());
+		copyViewProperties(toUpdate, toCopy);
+	}
+
+	/**
+	 * Copies the properties of the actor that are not its image or rules.
+	 * @param toUpdate: actor with an ImageView to update.
+	 * @param toCopy: actor to copy.
+	 */
+	private void copyViewProperties(Actor toUpdate, Actor toCopy) {
 		toUpdate.setName(toCopy.getName());
 		toUpdate.setFriction(toCopy.getFriction());
-		toUpdate.setImageViewName(toCopy.getImageViewName());
-		toUpdate.setImageView(new ImageView(new Image(toCopy.getImageViewName())));
 		toUpdate.setSize(toCopy.getSize());
 		toUpdate.setID(toCopy.getID());
 		toUpdate.setRotate(toCopy.getRotate());
@@ -100,10 +130,18 @@ public class ActorCopier {
 		toUpdate.setScaleY(toCopy.getScaleY());
 		copyStates(toUpdate, toCopy);
 		toUpdate.setSprite(toCopy.getSprite());
-		copyRules(toUpdate, toCopy.getRules());
 		copyAttributes(toUpdate, toCopy.getAttributeMap());
 	}
 
+	/**
+	 * Replaces the actor's rules with copies of another actor's rules.
+	 * @param toUpdate: actor to update.
+	 * @param toCopy: actor to copy.
+	 */
+	public void copyRules(Actor toUpdate, Actor toCopy) {
+		copyRules(toUpdate, toCopy.getRules());
+	}
+
 	/**
 	 * Copies the reference actor's rules.
 	 * @param toUpdate: actor to update.
@@ -146,6 +184,18 @@ public class ActorCopier {
 	 * @throws InvocationTargetException
 	 */
 	private Object createObject(Object object, Object[] arguments) throws NoSuchMethodException, SecurityException, InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException{
+		return findConstructor(object, arguments).newInstance(arguments);
+	}
+
+	/**
+	 * Finds the constructor that builds a copy of a trigger or action.
+	 * @param object: trigger or action to copy.
+	 * @param arguments: arguments that will be passed to the constructor.
+	 * @return constructor of the trigger's or action's class.
+	 * @throws NoSuchMethodException
+	 * @throws SecurityException
+	 */
+	public Constructor<?> findConstructor(Object object, Object[] arguments) throws NoSuchMethodException, SecurityException {
 		Class myclass = object.getClass();
 		Class[] argumentTypes = new Class[arguments.length];
 		for(int i=0; i<argumentTypes.length;i++){
@@ -155,8 +205,7 @@ public class ActorCopier {
 				argumentTypes[i] = arguments[i].getClass();
 			}
 		}
-		Constructor constructor = myclass.getConstructor(argumentTypes);
-		return constructor.newInstance(arguments);
+		return myclass.getConstructor(argumentTypes);
 	}
 	
 	/**
@@ -185,6 +185,7 @@ public class ActorRule {
 	private void removeTrigger(IAuthoringBehavior toRemove) {
 		authoringBehaviorMap.remove(toRemove);
 		myActor.getRules().remove(myTrigger.getMyKey());
+		myActor.markEdited();
 		for (IAuthoringBehavior authoringBehavior : authoringBehaviorMap.keySet()) {
 			String otherTriggerKey = ((Rule) authoringBehaviorMap.get(authoringBehavior)
 					.get(Integer.parseInt(myActorRuleResources.getString("IRuleIndex")))).getMyTrigger().getMyKey();
@@ -212,6 +213,7 @@ public class ActorRule {
 	private void removeIRuleFromActor(IRule toRemove) {
 		List<Rule> rulesForCurrentTrigger = myActor.getRules().get(myTrigger.getMyKey());
 		rulesForCurrentTrigger.remove(toRemove);
+		myActor.markEdited();
 	}
 	/**
 	 * Set Trigger value
@@ -243,6 +245,7 @@ public class ActorRule {
 		if (myActorRuleCreator.isNewlyReturned()) {
 			myActorRuleCreator.setNewlyReturned(false);
 			myActor.getRules().clear();
+			myActor.markEdited();
 		}
 		if (myTrigger == null) {
 			for (IAuthoringBehavior authoringBehavior : authoringBehaviorMap.keySet()) {
@@ -0,0 +1,24 @@
+package authoringenvironment.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stamps edits to game elements. Every edit gets a stamp later than all
+ * previous ones, so an element, or a group of elements, has changed since it
+ * was saved exactly when its latest stamp is later than the one it was saved
+ * with.
+ */
+public class EditClock {
+
+	private static final AtomicLong LAST_EDIT = new AtomicLong();
+
+	private EditClock() {
+	}
+
+	/**
+	 * @return A stamp later than every stamp handed out before it
+	 */
+	public static long tick() {
+		return LAST_EDIT.incrementAndGet();
+	}
+}
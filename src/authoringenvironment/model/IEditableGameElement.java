@@ -41,4 +41,17 @@ public interface IEditableGameElement {
 	 */
 	public void setImageView(ImageView imageView);
 
+	/**
+	 * records that the IEditableGameElement has been edited since it was last
+	 * saved
+	 */
+	public void markEdited();
+
+	/**
+	 * 
+	 * @return the EditClock stamp of the IEditableGameElement's latest edit,
+	 *         or 0 if it has not been edited since it was created or loaded
+	 */
+	public long getEditVersion();
+
 }
@@ -37,11 +37,9 @@ public class TriggerFactory {
 	@XStreamOmitField
 	private ResourceBundle myResources;
 	private List<Object> arguments;
-	private final AlertGenerator myAlertGenerator;
 
 	public TriggerFactory() {
 		this.myResources = ResourceBundle.getBundle(TRIGGER_RESOURCE);
-		this.myAlertGenerator = new AlertGenerator();
 	}
 
 	/**
@@ -82,7 +80,7 @@ public class TriggerFactory {
 			Method createMethod = this.getClass().getDeclaredMethod(CREATE + triggerType, String.class, String.class);
 			return (ITrigger) createMethod.invoke(this, behaviorType, className);
 		} catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-			myAlertGenerator.generateAlert(e.getClass().toString());
+			new AlertGenerator().generateAlert(e.getClass().toString());
 		} 
 		return null;
 	}
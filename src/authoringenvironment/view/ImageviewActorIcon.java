@@ -52,6 +52,7 @@ public class ImageviewActorIcon extends ImageView {
 	public void updateIconActorPosition(double x, double y) {
 		myActor.setX(x);
 		myActor.setY(y);
+		myActor.markEdited();
 	}
 
 	/**
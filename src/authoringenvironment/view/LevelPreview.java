@@ -15,7 +15,6 @@ import gameengine.controller.Game;
 import gameengine.controller.GameInfo;
 import gameengine.controller.Level;
 import gameengine.model.ActorState;
-import gameengine.model.IPlayActor;
 import gameplayer.controller.GameController;
 import gameplayer.controller.PlayType;
 import gameplayer.view.GameScreen;
@@ -76,11 +75,6 @@ public class LevelPreview {
 	 */
 	private void addLevelsAndActors() {
 		for(Level level: myModel.getLevels()) {
-			for (IPlayActor actor: level.getActors()) {
-				if (actor.checkState(ActorState.MAIN)) {
-					level.getMainCharacters().add(actor);
-				}
-			}
 			if (level.getMainCharacters().size() == 0) {
 				level.getActors().get(0).addState(ActorState.MAIN);
 			}
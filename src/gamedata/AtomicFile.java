@@ -0,0 +1,71 @@
+package gamedata;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Replaces a file only once its new contents have been written completely.
+ * The contents go through a buffered channel into a hidden temporary file
+ * beside the target, which is forced to disk and then renamed over the target,
+ * so a crash mid-save leaves the previous file intact.
+ */
+public class AtomicFile {
+
+	private static final String TEMP_PREFIX = ".";
+	private static final String TEMP_SUFFIX = ".tmp";
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Writes a file's contents to a stream
+	 */
+	public interface Contents {
+		public void writeTo(OutputStream stream) throws IOException;
+	}
+
+	private AtomicFile() {
+	}
+
+	/**
+	 * Writes a file, replacing it only once the contents are complete
+	 *
+	 * @param file
+	 *            The file to write
+	 * @param contents
+	 *            Writes the new contents
+	 * @throws IOException
+	 *             If the contents cannot be written; the file is then unchanged
+	 */
+	public static void write(File file, Contents contents) throws IOException {
+		Path target = file.getAbsoluteFile().toPath();
+		Files.createDirectories(target.getParent());
+		Path temp = target.resolveSibling(TEMP_PREFIX + target.getFileName() + "." + System.nanoTime() + TEMP_SUFFIX);
+		try {
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW)) {
+				OutputStream stream = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+				contents.writeTo(stream);
+				stream.flush();
+				channel.force(true);
+			}
+			moveIntoPlace(temp, target);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private static void moveIntoPlace(Path temp, Path target) throws IOException {
+		try {
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+}
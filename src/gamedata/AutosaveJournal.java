@@ -0,0 +1,244 @@
+package gamedata;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import com.thoughtworks.xstream.XStream;
+
+/**
+ * A project's autosaves: a full base file, saved by XMLCreator, and an
+ * append-only journal of the objects saved since. Each journal record holds
+ * one object under a key, and a later record replaces an earlier one with the
+ * same key. Compacting saves the whole project as the new base file and empties
+ * the journal.
+ *
+ * Record layout: key (modified UTF-8), payload length (int), the object's XML
+ * (payload), then the CRC32 of the payload (long). A record cut short by a
+ * crash fails its check, and it and everything after it are dropped before
+ * the next append.
+ */
+public class AutosaveJournal {
+
+	private static final String BASE_FILE = "game.xml";
+	private static final String JOURNAL_FILE = "journal";
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private File myBaseFile;
+	private File myJournalFile;
+	private XStream myXStream;
+	private XMLCreator myXMLCreator;
+	private XMLParser myXMLParser;
+	private long myLength = -1;
+
+	/**
+	 * @param directory
+	 *            The project's autosave directory
+	 * @param xStream
+	 *            The XStream that writes and reads journal records
+	 */
+	public AutosaveJournal(File directory, XStream xStream) {
+		myBaseFile = new File(directory, BASE_FILE);
+		myJournalFile = new File(directory, JOURNAL_FILE);
+		myXStream = xStream;
+		myXMLCreator = new XMLCreator();
+		myXMLParser = new XMLParser();
+	}
+
+	/**
+	 * Writes an object as the payload of a journal record. This touches no
+	 * files, so it can be called on the thread that owns the object.
+	 *
+	 * @param object
+	 *            The object to write
+	 * @return The object's XML
+	 */
+	public byte[] toPayload(Object object) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		Writer writer = new OutputStreamWriter(bytes, StandardCharsets.UTF_8);
+		myXStream.toXML(object, writer);
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Appends records to the journal and forces them to disk
+	 *
+	 * @param payloads
+	 *            The payloads to append, by key
+	 * @throws IOException
+	 *             If the records cannot be written; the journal then ends
+	 *             with the last complete record
+	 */
+	public void append(Map<String, byte[]> payloads) throws IOException {
+		long length = length();
+		myJournalFile.getParentFile().mkdirs();
+		try (FileChannel channel = FileChannel.open(myJournalFile.toPath(), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE)) {
+			channel.truncate(length);
+			channel.position(length);
+			DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+			for (Map.Entry<String, byte[]> payload : payloads.entrySet()) {
+				writeRecord(out, payload.getKey(), payload.getValue());
+			}
+			out.flush();
+			channel.force(false);
+			myLength = channel.position();
+		}
+	}
+
+	/**
+	 * Reads the latest object saved under each key since the journal was last
+	 * compacted
+	 *
+	 * @return The objects by key, in the order their latest records were
+	 *         written
+	 * @throws IOException
+	 *             If the journal cannot be read
+	 */
+	public Map<String, Object> replay() throws IOException {
+		Map<String, byte[]> payloads = readPayloads();
+		Map<String, Object> objects = new LinkedHashMap<>();
+		for (Map.Entry<String, byte[]> payload : payloads.entrySet()) {
+			Reader reader = new InputStreamReader(new ByteArrayInputStream(payload.getValue()), StandardCharsets.UTF_8);
+			objects.put(payload.getKey(), myXStream.fromXML(reader));
+		}
+		return objects;
+	}
+
+	/**
+	 * @return The object saved by the last compaction, or null if there is
+	 *         none
+	 */
+	public Object loadBase() {
+		return myXMLParser.load(myBaseFile);
+	}
+
+	/**
+	 * Saves the whole project as the base file, then empties the journal. If
+	 * this is interrupted between the two, the journal's records are replayed
+	 * onto a base file that already holds them, which changes nothing.
+	 *
+	 * @param project
+	 *            The project, with every journal record applied
+	 * @throws IOException
+	 *             If the base file cannot be written; the journal is then kept
+	 */
+	public void compact(Object project) throws IOException {
+		myXMLCreator.save(project, myBaseFile);
+		try (FileChannel channel = FileChannel.open(myJournalFile.toPath(), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE)) {
+			channel.truncate(0);
+			channel.force(false);
+		}
+		myLength = 0;
+	}
+
+	/**
+	 * Deletes the base file and the journal
+	 */
+	public void delete() {
+		myBaseFile.delete();
+		myJournalFile.delete();
+		myLength = 0;
+	}
+
+	/**
+	 * @return The number of bytes of complete records in the journal
+	 * @throws IOException
+	 *             If the journal cannot be read
+	 */
+	public long length() throws IOException {
+		if (myLength < 0) {
+			readPayloads();
+		}
+		return myLength;
+	}
+
+	/**
+	 * @return The file the project is compacted into
+	 */
+	public File getBaseFile() {
+		return myBaseFile;
+	}
+
+	/**
+	 * @return Whether anything has been autosaved
+	 */
+	public boolean exists() {
+		return myBaseFile.isFile() || myJournalFile.length() > 0;
+	}
+
+	private void writeRecord(DataOutputStream out, String key, byte[] payload) throws IOException {
+		CRC32 checksum = new CRC32();
+		checksum.update(payload);
+		out.writeUTF(key);
+		out.writeInt(payload.length);
+		out.write(payload);
+		out.writeLong(checksum.getValue());
+	}
+
+	/**
+	 * Reads the latest payload under each key, stopping at the first record
+	 * that is incomplete or fails its check
+	 */
+	private Map<String, byte[]> readPayloads() throws IOException {
+		Map<String, byte[]> payloads = new LinkedHashMap<>();
+		long length = 0;
+		if (myJournalFile.isFile()) {
+			try (InputStream stream = new BufferedInputStream(new FileInputStream(myJournalFile), BUFFER_SIZE)) {
+				DataInputStream in = new DataInputStream(stream);
+				while (true) {
+					String key;
+					byte[] payload;
+					try {
+						key = in.readUTF();
+						int size = in.readInt();
+						if (size < 0 || size > myJournalFile.length()) {
+							break;
+						}
+						payload = new byte[size];
+						in.readFully(payload);
+						CRC32 checksum = new CRC32();
+						checksum.update(payload);
+						if (in.readLong() != checksum.getValue()) {
+							break;
+						}
+					} catch (EOFException e) {
+						break;
+					}
+					payloads.remove(key);
+					payloads.put(key, payload);
+					length += recordLength(key, payload);
+				}
+			}
+		}
+		myLength = length;
+		return payloads;
+	}
+
+	private long recordLength(String key, byte[] payload) throws IOException {
+		ByteArrayOutputStream keyBytes = new ByteArrayOutputStream();
+		new DataOutputStream(keyBytes).writeUTF(key);
+		return keyBytes.size() + Integer.BYTES + payload.length + Long.BYTES;
+	}
+}
@@ -0,0 +1,82 @@
+package gamedata;
+
+import java.io.File;
+
+import gameengine.controller.GameInfo;
+
+/**
+ * What the game choosers show of a game file, taken from its GameInfo when
+ * the file was indexed, with the file's length and modification time at that
+ * point so that a file changed since can be indexed again.
+ */
+public class GameCatalogEntry {
+
+	private String myPath;
+	private long myLength;
+	private long myLastModified;
+	private String myName;
+	private String myDescription;
+	private String myImageName;
+	private String myGameFile;
+	private int myLevelCount;
+
+	/**
+	 * @param file
+	 *            The game file
+	 * @param info
+	 *            The information of the game saved in it
+	 * @param levelCount
+	 *            The number of levels in the game
+	 */
+	public GameCatalogEntry(File file, GameInfo info, int levelCount) {
+		myPath = file.getPath();
+		myLength = file.length();
+		myLastModified = file.lastModified();
+		myName = info.getName();
+		myDescription = info.getMyDescription();
+		myImageName = info.getMyImageName();
+		myGameFile = info.getMyFile();
+		myLevelCount = levelCount;
+	}
+
+	/**
+	 * @param file
+	 *            The game file this entry was made from
+	 * @return Whether the file is unchanged since this entry was made
+	 */
+	public boolean isCurrent(File file) {
+		return file.length() == myLength && file.lastModified() == myLastModified;
+	}
+
+	public File getFile() {
+		return new File(myPath);
+	}
+
+	public String getPath() {
+		return myPath;
+	}
+
+	public String getName() {
+		return myName;
+	}
+
+	public String getDescription() {
+		return myDescription;
+	}
+
+	public String getImageName() {
+		return myImageName;
+	}
+
+	/**
+	 * @return The file name the game saves itself under, which its high
+	 *         scores are kept by
+	 */
+	public String getGameFile() {
+		return myGameFile;
+	}
+
+	public int getLevelCount() {
+		return myLevelCount;
+	}
+}
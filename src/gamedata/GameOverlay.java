@@ -0,0 +1,62 @@
+package gamedata;
+
+import java.io.File;
+
+import gameengine.controller.IGame;
+
+/**
+ * What a game's playing file adds to the loader file it was saved with. When
+ * a game is saved for editing, the full game is written once to its loader
+ * file, and the playing file only holds this overlay: where the loader file is,
+ * relative to the playing file, and the values that differ between the two.
+ */
+public class GameOverlay {
+
+	private static final char SEPARATOR = '/';
+
+	private String myBaseFile;
+	private String myFile;
+	private int myCurrentLevelNum;
+
+	/**
+	 * Creates the overlay of a game that was just saved to its loader file
+	 *
+	 * @param overlayFile
+	 *            The playing file the overlay is saved to
+	 * @param baseFile
+	 *            The loader file holding the full game
+	 * @param game
+	 *            The game
+	 */
+	public GameOverlay(File overlayFile, File baseFile, IGame game) {
+		myBaseFile = overlayFile.getAbsoluteFile().getParentFile().toPath()
+				.relativize(baseFile.getAbsoluteFile().toPath()).toString().replace(File.separatorChar, SEPARATOR);
+		myFile = overlayFile.getName();
+		myCurrentLevelNum = game.getInfo().getMyCurrentLevelNum();
+	}
+
+	/**
+	 * Provides the loader file holding the full game
+	 *
+	 * @param overlayFile
+	 *            The playing file the overlay was loaded from
+	 */
+	public File getBaseFile(File overlayFile) {
+		return new File(overlayFile.getAbsoluteFile().getParentFile(),
+				myBaseFile.replace(SEPARATOR, File.separatorChar));
+	}
+
+	/**
+	 * Turns the game loaded from the loader file into the playing file's game
+	 *
+	 * @param game
+	 *            The game loaded from the loader file
+	 * @param baseFile
+	 *            The loader file
+	 */
+	public void applyTo(IGame game, File baseFile) {
+		game.setInitialGameFile(baseFile.getPath());
+		game.getInfo().setMyFile(myFile);
+		game.getInfo().setMyCurrentLevelNum(myCurrentLevelNum);
+	}
+}
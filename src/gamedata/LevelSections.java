@@ -0,0 +1,95 @@
+package gamedata;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import authoringenvironment.model.IAuthoringActor;
+import gameengine.controller.ILazyLevelList;
+import gameengine.controller.Level;
+
+/**
+ * The levels of a game loaded lazily from a snapshot. Each level is its own
+ * section of the memory-mapped snapshot and is read the first time it is
+ * asked for; until then, and once it has been released, it only takes up
+ * the mapping, which the operating system pages in and out as it needs to.
+ * A level that has been read is returned without locking, so the game loop
+ * can ask for its current level every frame while the next one is read on
+ * another thread.
+ */
+public class LevelSections extends AbstractList<Level> implements ILazyLevelList {
+
+	private SnapshotParser myParser;
+	private ByteBuffer myBuffer;
+	private long[] myOffsets;
+	private AtomicReferenceArray<Level> myLevels;
+	private Object[] myLocks;
+
+	/**
+	 * @param parser
+	 *            The parser that reads the sections
+	 * @param buffer
+	 *            The mapped snapshot
+	 * @param offsets
+	 *            Where each section of the snapshot starts, followed by where
+	 *            its section table starts
+	 */
+	public LevelSections(SnapshotParser parser, ByteBuffer buffer, long[] offsets) {
+		myParser = parser;
+		myBuffer = buffer;
+		myOffsets = offsets;
+		int size = offsets.length - 1 - SnapshotCreator.FIRST_LEVEL_SECTION;
+		myLevels = new AtomicReferenceArray<>(size);
+		myLocks = new Object[size];
+		for (int i = 0; i < size; i++) {
+			myLocks[i] = new Object();
+		}
+	}
+
+	@Override
+	public Level get(int index) {
+		Level level = myLevels.get(index);
+		if (level == null) {
+			synchronized (myLocks[index]) {
+				level = myLevels.get(index);
+				if (level == null) {
+					level = (Level) myParser.readSection(myBuffer, myOffsets,
+							SnapshotCreator.FIRST_LEVEL_SECTION + index);
+					myLevels.set(index, level);
+				}
+			}
+		}
+		return level;
+	}
+
+	@Override
+	public int size() {
+		return myLevels.length();
+	}
+
+	@Override
+	public void release(int index) {
+		myLevels.set(index, null);
+	}
+
+	@Override
+	public boolean isLoaded(int index) {
+		return myLevels.get(index) != null;
+	}
+
+	@Override
+	public Map<IAuthoringActor, List<IAuthoringActor>> readActorMap() {
+		return myParser.readActorMap(myBuffer, myOffsets, this);
+	}
+
+	/**
+	 * Has XStream save the levels as a plain list, reading any that have not
+	 * been read
+	 */
+	private Object writeReplace() {
+		return new ArrayList<>(this);
+	}
+}
@@ -0,0 +1,259 @@
+package gamedata;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+import gameengine.controller.HighScoresKeeper;
+import gameengine.controller.ScoreEntry;
+
+/**
+ * Keeps every game's high scores in memory and on disk as a HighScoresKeeper
+ * file, saved by XMLCreator, followed by an append-only log of the scores
+ * saved and cleared since. Both are read once, when the log is created; after
+ * that, reading scores touches no files, and saving one appends a single
+ * record. Once enough records have built up, the scores are compacted into
+ * the HighScoresKeeper file and the log is emptied.
+ *
+ * Record layout: body length (int), body, then the CRC32 of the body (long).
+ * The body is an operation (byte), the sequence number the change was given
+ * (long), the game (modified UTF-8), and for a score the player (modified
+ * UTF-8) and the score (int). A record cut short by a crash fails its check,
+ * and it and everything after it are dropped before the next append. Records
+ * numbered before the HighScoresKeeper file's next sequence number are
+ * already in the file and are skipped, so a crash between writing the file
+ * and emptying the log does not apply them twice.
+ */
+public class ScoreLog {
+
+	private static final byte ADD_SCORE = 'A';
+	private static final byte CLEAR_SCORES = 'C';
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final int COMPACT_AFTER_RECORDS = 1000;
+
+	private File myBaseFile;
+	private File myLogFile;
+	private HighScoresKeeper myScores;
+	private long myLength;
+	private int myRecords;
+
+	/**
+	 * Reads the scores saved in a HighScoresKeeper file and the log appended
+	 * to it
+	 *
+	 * @param baseFile
+	 *            The HighScoresKeeper file
+	 * @param logFile
+	 *            The log of scores saved since the file was written
+	 */
+	public ScoreLog(File baseFile, File logFile) {
+		myBaseFile = baseFile;
+		myLogFile = logFile;
+		Object base = new XMLParser().load(baseFile);
+		myScores = base instanceof HighScoresKeeper ? (HighScoresKeeper) base : new HighScoresKeeper();
+		if (myScores.getMyScores() == null) {
+			myScores.setMyScores(new HashMap<>());
+		}
+		replay();
+	}
+
+	/**
+	 * @param game
+	 *            The game's file name
+	 * @return A copy of the game's scores by player, or null if none have
+	 *         been saved
+	 */
+	public synchronized Map<String, Integer> getGameScores(String game) {
+		Map<String, Integer> scores = myScores.getGameScores(game);
+		return scores == null ? null : new TreeMap<>(scores);
+	}
+
+	/**
+	 * @return A copy of every game's scores by player, by game
+	 */
+	public synchronized Map<String, Map<String, Integer>> getAllGameScores() {
+		Map<String, Map<String, Integer>> allScores = new HashMap<>();
+		myScores.getMyScores().forEach((game, scores) -> allScores.put(game, new TreeMap<>(scores)));
+		return allScores;
+	}
+
+	/**
+	 * @return The game's highest ranked score entries, best first
+	 */
+	public synchronized List<ScoreEntry> getTopScores(String game, int count) {
+		return myScores.getTopScores(game, count);
+	}
+
+	/**
+	 * @return A page of the game's score entries, starting at a rank (from 1),
+	 *         best first
+	 */
+	public synchronized List<ScoreEntry> getScores(String game, int fromRank, int count) {
+		return myScores.getScores(game, fromRank, count);
+	}
+
+	/**
+	 * @return The rank (from 1) of the player's best entry in the game, or 0
+	 *         if the player has no score in it
+	 */
+	public synchronized int getRank(String game, String player) {
+		return myScores.getRank(game, player);
+	}
+
+	/**
+	 * @return The number of score entries kept for the game
+	 */
+	public synchronized int getScoreCount(String game) {
+		return myScores.getScoreCount(game);
+	}
+
+	/**
+	 * Saves a player's score as a new entry in the game's ranking
+	 *
+	 * @throws IOException
+	 *             If the score cannot be written; it is then not saved
+	 */
+	public synchronized void addScore(String game, String player, int score) throws IOException {
+		append(createRecord(ADD_SCORE, myScores.getNextSequence(), game, player, score));
+		myScores.addScore(game, player, score);
+		compactIfDue();
+	}
+
+	/**
+	 * Clears all of a game's scores
+	 *
+	 * @throws IOException
+	 *             If the clearing cannot be written; the scores are then kept
+	 */
+	public synchronized void clearGameScores(String game) throws IOException {
+		append(createRecord(CLEAR_SCORES, myScores.getNextSequence(), game, null, 0));
+		myScores.clearGameScores(game);
+		compactIfDue();
+	}
+
+	/**
+	 * Writes all scores to the HighScoresKeeper file and empties the log
+	 *
+	 * @throws IOException
+	 *             If the file cannot be written; the log is then kept
+	 */
+	public synchronized void compact() throws IOException {
+		new XMLCreator().save(myScores, myBaseFile);
+		try (FileChannel channel = FileChannel.open(myLogFile.toPath(), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE)) {
+			channel.truncate(0);
+			channel.force(false);
+		}
+		myLength = 0;
+		myRecords = 0;
+	}
+
+	private void append(byte[] body) throws IOException {
+		CRC32 checksum = new CRC32();
+		checksum.update(body);
+		ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + body.length + Long.BYTES);
+		record.putInt(body.length).put(body).putLong(checksum.getValue());
+		record.flip();
+		try (FileChannel channel = FileChannel.open(myLogFile.toPath(), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE)) {
+			channel.truncate(myLength);
+			channel.position(myLength);
+			while (record.hasRemaining()) {
+				channel.write(record);
+			}
+			channel.force(false);
+			myLength = channel.position();
+		}
+		myRecords++;
+	}
+
+	private void compactIfDue() {
+		if (myRecords >= COMPACT_AFTER_RECORDS) {
+			try {
+				compact();
+			} catch (IOException e) {
+				// the records stay in the log, which is compacted after the next one
+			}
+		}
+	}
+
+	private byte[] createRecord(byte operation, long sequence, String game, String player, int score)
+			throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream body = new DataOutputStream(bytes);
+		body.writeByte(operation);
+		body.writeLong(sequence);
+		body.writeUTF(game);
+		if (operation == ADD_SCORE) {
+			body.writeUTF(player);
+			body.writeInt(score);
+		}
+		body.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Applies the log's records that the scores do not hold yet, stopping at
+	 * the first record that is incomplete or fails its check
+	 */
+	private void replay() {
+		myLength = 0;
+		myRecords = 0;
+		if (!myLogFile.isFile()) {
+			return;
+		}
+		long baseSequence = myScores.getNextSequence();
+		try (InputStream stream = new BufferedInputStream(new FileInputStream(myLogFile), BUFFER_SIZE)) {
+			DataInputStream in = new DataInputStream(stream);
+			while (true) {
+				int size = in.readInt();
+				if (size <= 0 || size > myLogFile.length()) {
+					break;
+				}
+				byte[] body = new byte[size];
+				in.readFully(body);
+				CRC32 checksum = new CRC32();
+				checksum.update(body);
+				if (in.readLong() != checksum.getValue()) {
+					break;
+				}
+				apply(body, baseSequence);
+				myLength += Integer.BYTES + size + Long.BYTES;
+				myRecords++;
+			}
+		} catch (EOFException e) {
+			// the log ends with the last complete record
+		} catch (IOException e) {
+			// the scores read so far are kept
+		}
+	}
+
+	private void apply(byte[] body, long baseSequence) throws IOException {
+		DataInputStream record = new DataInputStream(new ByteArrayInputStream(body));
+		byte operation = record.readByte();
+		if (record.readLong() < baseSequence) {
+			return;
+		}
+		String game = record.readUTF();
+		if (operation == ADD_SCORE) {
+			myScores.addScore(game, record.readUTF(), record.readInt());
+		} else if (operation == CLEAR_SCORES) {
+			myScores.clearGameScores(game);
+		}
+	}
+}
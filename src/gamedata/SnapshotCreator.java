@@ -0,0 +1,94 @@
+package gamedata;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+import com.thoughtworks.xstream.io.binary.BinaryStreamDriver;
+
+import authoringenvironment.model.IAuthoringActor;
+import gameengine.controller.Game;
+
+/**
+ * Saves objects as binary snapshots for SnapshotParser to load. A snapshot
+ * holds the same XStream object graph as the XML file it was made from, written
+ * as XStream's binary tokens in the current XStreamSchema, in which every
+ * element name is stored once per section and then referred to by number. The
+ * header records the format version and the length and modification time of
+ * the XML source, so that a snapshot of an XML file that has since changed is
+ * not used.
+ *
+ * A game is split into sections that can each be read on their own: the game
+ * without its levels, then its reference actors, then each of its levels in
+ * order. Any other object is saved as a single section.
+ *
+ * Layout: magic (int), version (int), source length (long), source
+ * modification time (long), then each section's XStream binary token stream,
+ * then the offset of every section (long) and the number of sections (int).
+ */
+public class SnapshotCreator {
+
+	public static final int MAGIC = 0x56474253;
+	public static final int FORMAT_VERSION = 3;
+	public static final int HEADER_BYTES = 2 * Integer.BYTES + 2 * Long.BYTES;
+	public static final int GAME_SECTION = 0;
+	public static final int ACTORS_SECTION = 1;
+	public static final int FIRST_LEVEL_SECTION = 2;
+
+	private XStream myXStream;
+	private BinaryStreamDriver myDriver;
+
+	public SnapshotCreator() {
+		myDriver = new BinaryStreamDriver();
+		myXStream = XStreamSchema.createSections(myDriver);
+	}
+
+	/**
+	 * Writes a snapshot of an object loaded from an XML file
+	 *
+	 * @param object
+	 *            The object to save
+	 * @param snapshot
+	 *            The snapshot file to write
+	 * @param source
+	 *            The XML file the object was loaded from
+	 * @throws IOException
+	 *             If the snapshot cannot be written; the file is then
+	 *             unchanged
+	 */
+	public void save(Object object, File snapshot, File source) throws IOException {
+		List<Object> sections = new ArrayList<>();
+		sections.add(object);
+		if (object instanceof Game) {
+			Game game = (Game) object;
+			Map<IAuthoringActor, List<IAuthoringActor>> actorMap = game.getInfo().getActorMap();
+			sections.add(actorMap == null ? new ArrayList<>() : new ArrayList<>(actorMap.keySet()));
+			sections.addAll(game.getLevels());
+		}
+		AtomicFile.write(snapshot, stream -> {
+			DataOutputStream out = new DataOutputStream(stream);
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeLong(source.length());
+			out.writeLong(source.lastModified());
+			long[] offsets = new long[sections.size()];
+			for (int i = 0; i < sections.size(); i++) {
+				out.flush();
+				offsets[i] = out.size();
+				HierarchicalStreamWriter writer = myDriver.createWriter(out);
+				myXStream.marshal(sections.get(i), writer);
+				writer.flush();
+			}
+			for (long offset : offsets) {
+				out.writeLong(offset);
+			}
+			out.writeInt(offsets.length);
+			out.flush();
+		});
+	}
+}
@@ -0,0 +1,266 @@
+package gamedata;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.io.HierarchicalStreamReader;
+import com.thoughtworks.xstream.io.binary.BinaryStreamDriver;
+
+import authoringenvironment.model.IAuthoringActor;
+import gameengine.controller.Game;
+import gameengine.controller.Level;
+import gameengine.model.IPlayActor;
+
+/**
+ * Loads binary snapshots saved by SnapshotCreator. The file is memory-mapped
+ * and its tokens are read straight from the mapping. A game can be loaded
+ * whole, or lazily, with each level read from the mapping when it is first
+ * needed.
+ */
+public class SnapshotParser {
+
+	private static final int TABLE_ENTRY_BYTES = Long.BYTES;
+
+	private XStream myXStream;
+	private BinaryStreamDriver myDriver;
+
+	public SnapshotParser() {
+		myDriver = new BinaryStreamDriver();
+		myXStream = XStreamSchema.createSections(myDriver);
+	}
+
+	/**
+	 * Reads the object saved in a snapshot
+	 *
+	 * @param snapshot
+	 *            The snapshot file
+	 * @return The saved object, or null if the file is missing, was written in
+	 *         another format version or cannot be read
+	 */
+	public Object load(File snapshot) {
+		return load(snapshot, null);
+	}
+
+	/**
+	 * Reads the object saved in a snapshot, if the snapshot was made from the
+	 * current version of an XML file. A game is read whole, with every level
+	 * and the actor map of its information.
+	 *
+	 * @param snapshot
+	 *            The snapshot file
+	 * @param source
+	 *            The XML file the snapshot should have been made from
+	 * @return The saved object, or null if the snapshot is missing, out of
+	 *         date or cannot be read
+	 */
+	public Object load(File snapshot, File source) {
+		Object object = load(snapshot, source, false);
+		if (object instanceof Game) {
+			((Game) object).setLevels(new ArrayList<>(((Game) object).getLevels()));
+		}
+		return object;
+	}
+
+	/**
+	 * Reads the object saved in a snapshot, if the snapshot was made from the
+	 * current version of an XML file. A game's levels are an ILazyLevelList
+	 * over the mapped snapshot, and its information has no actor map, which
+	 * only the authoring environment uses until the game is saved; see
+	 * Game.restoreActorMap.
+	 *
+	 * @param snapshot
+	 *            The snapshot file
+	 * @param source
+	 *            The XML file the snapshot should have been made from
+	 * @return The saved object, or null if the snapshot is missing, out of
+	 *         date or cannot be read
+	 */
+	public Object loadLazily(File snapshot, File source) {
+		return load(snapshot, source, true);
+	}
+
+	private Object load(File snapshot, File source, boolean lazily) {
+		if (snapshot == null || !snapshot.isFile() || snapshot.length() < SnapshotCreator.HEADER_BYTES) {
+			return null;
+		}
+		try (FileChannel channel = FileChannel.open(snapshot.toPath(), StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (!isCurrent(buffer, source)) {
+				return null;
+			}
+			long[] offsets = readSectionOffsets(buffer);
+			if (offsets == null) {
+				return null;
+			}
+			Object object = readSection(buffer, offsets, SnapshotCreator.GAME_SECTION);
+			if (object instanceof Game && offsets.length > SnapshotCreator.FIRST_LEVEL_SECTION) {
+				Game game = (Game) object;
+				LevelSections levels = new LevelSections(this, buffer, offsets);
+				game.setLevels(levels);
+				if (!lazily) {
+					game.getInfo().setActorMap(readActorMap(buffer, offsets, levels));
+				}
+			}
+			return object;
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Checks whether a snapshot can be used in place of an XML file, by reading
+	 * its header only
+	 *
+	 * @param snapshot
+	 *            The snapshot file
+	 * @param source
+	 *            The XML file the snapshot should have been made from
+	 * @return Whether the snapshot is in this format version and matches the
+	 *         XML file
+	 */
+	public boolean isCurrent(File snapshot, File source) {
+		if (snapshot == null || !snapshot.isFile() || snapshot.length() < SnapshotCreator.HEADER_BYTES) {
+			return false;
+		}
+		try (FileChannel channel = FileChannel.open(snapshot.toPath(), StandardOpenOption.READ)) {
+			return isCurrent(channel.map(FileChannel.MapMode.READ_ONLY, 0, SnapshotCreator.HEADER_BYTES), source);
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Reads a snapshot's header, leaving the buffer positioned after it
+	 */
+	private boolean isCurrent(ByteBuffer buffer, File source) {
+		if (buffer.remaining() < SnapshotCreator.HEADER_BYTES || buffer.getInt() != SnapshotCreator.MAGIC
+				|| buffer.getInt() != SnapshotCreator.FORMAT_VERSION) {
+			return false;
+		}
+		long sourceLength = buffer.getLong();
+		long sourceModified = buffer.getLong();
+		return source == null || (source.length() == sourceLength && source.lastModified() == sourceModified);
+	}
+
+	/**
+	 * Reads the section table at the end of a snapshot
+	 *
+	 * @return Where each section starts, followed by where the table starts,
+	 *         or null if the table is damaged
+	 */
+	private long[] readSectionOffsets(ByteBuffer buffer) {
+		int limit = buffer.limit();
+		if (limit < SnapshotCreator.HEADER_BYTES + Integer.BYTES) {
+			return null;
+		}
+		int count = buffer.getInt(limit - Integer.BYTES);
+		long table = limit - Integer.BYTES - (long) count * TABLE_ENTRY_BYTES;
+		if (count < 1 || table < SnapshotCreator.HEADER_BYTES) {
+			return null;
+		}
+		long[] offsets = new long[count + 1];
+		for (int i = 0; i < count; i++) {
+			offsets[i] = buffer.getLong((int) table + i * TABLE_ENTRY_BYTES);
+			if (offsets[i] < (i == 0 ? SnapshotCreator.HEADER_BYTES : offsets[i - 1]) || offsets[i] > table) {
+				return null;
+			}
+		}
+		offsets[count] = table;
+		return offsets;
+	}
+
+	/**
+	 * Reads one section of a snapshot, without moving the buffer. Sections
+	 * may be read from several threads at once.
+	 *
+	 * @param buffer
+	 *            The mapped snapshot
+	 * @param offsets
+	 *            Where each section starts, followed by where the section
+	 *            table starts
+	 * @param section
+	 *            The section's index
+	 * @return The object saved in the section
+	 */
+	Object readSection(ByteBuffer buffer, long[] offsets, int section) {
+		ByteBuffer slice = buffer.duplicate();
+		slice.limit((int) offsets[section + 1]);
+		slice.position((int) offsets[section]);
+		HierarchicalStreamReader reader = myDriver.createReader(new BufferInputStream(slice));
+		return myXStream.unmarshal(reader);
+	}
+
+	/**
+	 * Puts back a game's actor map from its reference actors' section: each
+	 * reference actor with the copies of it placed in the levels, which share
+	 * its ID
+	 *
+	 * @param buffer
+	 *            The mapped snapshot
+	 * @param offsets
+	 *            Where each section starts, followed by where the section
+	 *            table starts
+	 * @param levels
+	 *            The game's levels
+	 * @return The game's actor map
+	 */
+	Map<IAuthoringActor, List<IAuthoringActor>> readActorMap(ByteBuffer buffer, long[] offsets, List<Level> levels) {
+		List<?> refActors = (List<?>) readSection(buffer, offsets, SnapshotCreator.ACTORS_SECTION);
+		Map<IAuthoringActor, List<IAuthoringActor>> actorMap = new HashMap<>();
+		for (Object refActor : refActors) {
+			actorMap.put((IAuthoringActor) refActor, new ArrayList<>());
+		}
+		Map<Integer, List<IAuthoringActor>> copies = new HashMap<>();
+		actorMap.forEach((refActor, list) -> copies.put(refActor.getID(), list));
+		for (Level level : levels) {
+			for (IPlayActor actor : level.getActors()) {
+				List<IAuthoringActor> list = copies.get(actor.getID());
+				if (list != null) {
+					list.add((IAuthoringActor) actor);
+				}
+			}
+		}
+		return actorMap;
+	}
+
+	/**
+	 * Reads a buffer from its current position
+	 */
+	private static class BufferInputStream extends InputStream {
+		private ByteBuffer myBuffer;
+
+		private BufferInputStream(ByteBuffer buffer) {
+			myBuffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return myBuffer.hasRemaining() ? myBuffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if (!myBuffer.hasRemaining()) {
+				return -1;
+			}
+			int count = Math.min(length, myBuffer.remaining());
+			myBuffer.get(bytes, offset, count);
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return myBuffer.remaining();
+		}
+	}
+}
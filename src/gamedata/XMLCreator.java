@@ -2,56 +2,49 @@ package gamedata;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.StringReader;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-
-import org.w3c.dom.Document;
-import org.xml.sax.InputSource;
-import org.xml.sax.SAXException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 import com.thoughtworks.xstream.XStream;
-
-
-
-
+import com.thoughtworks.xstream.io.xml.CompactWriter;
+import com.thoughtworks.xstream.io.xml.XppDriver;
+
+/**
+ * Saves objects for XMLParser to load. XStream's output is streamed straight
+ * into the file through AtomicFile, so a crash mid-save leaves the previous
+ * file intact. The XML is written without indentation, which would otherwise
+ * take up a third of a saved game.
+ */
 public class XMLCreator {
 
+	private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>";
+
 	private XStream myXStream;
 
 	public XMLCreator () {
-		myXStream = new XStream();
-		myXStream.autodetectAnnotations(true);
+		myXStream = XStreamSchema.create(new XppDriver());
 	}
 
-	public void save (Object object, File file) throws SAXException, IOException, TransformerException, ParserConfigurationException {
-		DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
-		DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
-		String xml = this.myXStream.toXML(object);
-		Document document = documentBuilder.parse(new InputSource(new StringReader(xml)));
-		convertDocumentToFile(document, file);
+	/**
+	 * Writes an object to a file, replacing the file only once the object has
+	 * been written completely
+	 *
+	 * @param object
+	 *            The object to save
+	 * @param file
+	 *            The file to save to
+	 * @throws IOException
+	 *             If the object cannot be written; the file is then unchanged
+	 */
+	public void save (Object object, File file) throws IOException {
+		AtomicFile.write(file, stream -> {
+			Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+			writer.write(XML_DECLARATION);
+			CompactWriter xmlWriter = new CompactWriter(writer);
+			myXStream.marshal(object, xmlWriter);
+			xmlWriter.flush();
+		});
 	}
 
-	private void convertDocumentToFile (Document document, File file) throws TransformerException {
-
-		TransformerFactory transformerFactory =
-				TransformerFactory.newInstance();
-		Transformer transformer =
-				transformerFactory.newTransformer();
-		DOMSource source = new DOMSource(document);
-		StreamResult result =
-				new StreamResult(file);
-		transformer.transform(source, result);
-	}
-
-
-
-
-}
\ No newline at end of file
+}
@@ -1,84 +1,89 @@
 package gamedata;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.StringWriter;
+import java.io.InputStream;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.io.HierarchicalStreamDriver;
+import com.thoughtworks.xstream.io.HierarchicalStreamReader;
+import com.thoughtworks.xstream.io.xml.StaxDriver;
 
+/**
+ * Loads objects saved by XMLCreator. The file is streamed straight into
+ * XStream through a StAX reader, so it is parsed once and never held in memory
+ * as a DOM or a String. Files saved before the current XStreamSchema are
+ * recognized by their root element and read with the legacy configuration.
+ */
 public class XMLParser {
-	
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
 	private XStream myXStream;
+	private XStream myLegacyXStream;
+	private HierarchicalStreamDriver myDriver;
+	private XMLInputFactory myInputFactory;
 
 	public XMLParser() {
-		myXStream = new XStream();
-		myXStream.autodetectAnnotations(true);
+		myDriver = new StaxDriver();
+		myXStream = XStreamSchema.create(myDriver);
+		myLegacyXStream = XStreamSchema.createLegacy(myDriver);
+		myInputFactory = XMLInputFactory.newInstance();
 	}
-	
-	//TODO throw exceptions?
-	
+
+	/**
+	 * Reads the object saved in a file
+	 *
+	 * @param file
+	 *            The file to read
+	 * @return The saved object, or null if the file is empty or cannot be read
+	 */
 	public Object load(File file) {
-		if (file == null || empty(file)) {
+		XStream xStream = file == null ? null : chooseXStream(file);
+		if (xStream == null) {
 			return null;
 		}
-		else {
-			String xml = convertFileToString(file);
+		try (InputStream stream = new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE)) {
+			HierarchicalStreamReader reader = myDriver.createReader(stream);
 			try {
-				return myXStream.fromXML(xml);
-			} catch (Exception e) {
-				return null;
+				return xStream.unmarshal(reader);
+			} finally {
+				reader.close();
 			}
-		}
-	}
-	
-	private String convertFileToString(File file) {
-		Document document = convertFileToDocument(file);
-		if (document == null) {
-			return "";
-		}
-		try {
-			TransformerFactory factory = TransformerFactory.newInstance();
-			Transformer transformer;
-			transformer = factory.newTransformer();
-			transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-			StringWriter writer = new StringWriter();
-			transformer.transform(new DOMSource(document), new StreamResult(writer));
-			return writer.getBuffer().toString();
-		} catch (TransformerException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-			return "";
+		} catch (Exception e) {
+			return null;
 		}
 	}
 
-	private Document convertFileToDocument(File file) {
-		try {
-			DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
-			DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
-			Document document = documentBuilder.parse(file);
-			document.getDocumentElement().normalize();
-			return document;
-		} catch (IOException | SAXException | ParserConfigurationException e) {
+	/**
+	 * Reads up to a file's root element to find which schema wrote it: only
+	 * the current schema puts an ID on the root
+	 *
+	 * @return The XStream to read the file with, or null if the file has no
+	 *         root element
+	 */
+	private XStream chooseXStream(File file) {
+		if (!file.isFile() || file.length() == 0) {
+			return null;
+		}
+		try (InputStream stream = new BufferedInputStream(new FileInputStream(file))) {
+			XMLStreamReader reader = myInputFactory.createXMLStreamReader(stream);
+			try {
+				reader.nextTag();
+				boolean current = reader.getAttributeValue(null, XStreamSchema.ID_ATTRIBUTE) != null;
+				return current ? myXStream : myLegacyXStream;
+			} finally {
+				reader.close();
+			}
+		} catch (IOException | XMLStreamException e) {
 			return null;
 		}
-	}
-
-	private boolean empty(File file) {
-		String xml = convertFileToString(file);
-		return xml.length() == 0;
 	}
 
 }
@@ -0,0 +1,299 @@
+package gamedata;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Observable;
+import java.util.Vector;
+import java.util.function.Supplier;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.UnmarshallingContext;
+import com.thoughtworks.xstream.converters.collections.CollectionConverter;
+import com.thoughtworks.xstream.converters.reflection.ReflectionProvider;
+import com.thoughtworks.xstream.converters.reflection.ReflectionProviderWrapper;
+import com.thoughtworks.xstream.converters.reflection.SunUnsafeReflectionProvider;
+import com.thoughtworks.xstream.core.JVM;
+import com.thoughtworks.xstream.io.HierarchicalStreamDriver;
+import com.thoughtworks.xstream.io.HierarchicalStreamReader;
+import com.thoughtworks.xstream.mapper.Mapper;
+
+import gameengine.controller.Game;
+import gameengine.controller.GameInfo;
+import gameengine.controller.Level;
+import gameengine.model.Actor;
+import gameengine.model.AttributeManager;
+import gameengine.model.RuleManager;
+
+/**
+ * The XStream configuration shared by every reader and writer of saved games.
+ * Shared objects are written once and referred to by ID, the engine's packages
+ * are written under short aliases, and Observable's listeners are not written
+ * at all; they are recreated empty when a saved object is loaded, as its
+ * constructor would have; on a JVM that does not allow this, they are still
+ * written. Fields that hold their default value are not written either, and
+ * are given it again when a saved object is loaded: a number that is zero, or
+ * one of the defaults in FIELD_DEFAULTS, such as an Actor's opacity or an
+ * empty rule map. Files written before this schema refer to shared objects by path
+ * instead, and are read with the legacy configuration, which reads every
+ * field they hold so that those paths can be followed.
+ */
+public class XStreamSchema {
+
+	private static final String[][] PACKAGE_ALIASES = {
+			{ "model", "gameengine.model" },
+			{ "engine", "gameengine.controller" } };
+	private static final String[] OBSERVABLE_FIELDS = { "obs", "changed" };
+	private static final String OBSERVERS_FIELD = "obs";
+	private static final String[] SAVED_PACKAGES = { "gameengine.", "authoringenvironment.", "gamedata." };
+	private static final Map<Class<?>, Map<String, Supplier<Object>>> FIELD_DEFAULTS = new HashMap<>();
+	static {
+		addDefault(Actor.class, "myOpacity", () -> 1.0);
+		addDefault(Actor.class, "myScaleX", () -> 1.0);
+		addDefault(Actor.class, "myScaleY", () -> 1.0);
+		addDefault(Actor.class, "myStates", HashSet::new);
+		addDefault(RuleManager.class, "myRules", HashMap::new);
+		addDefault(AttributeManager.class, "attributeMap", HashMap::new);
+	}
+
+	/**
+	 * The attribute that ID references put on the root element, which path
+	 * references never write
+	 */
+	public static final String ID_ATTRIBUTE = "id";
+
+	private XStreamSchema() {
+	}
+
+	/**
+	 * Creates an XStream that reads and writes the current schema
+	 *
+	 * @param driver
+	 *            The format to read and write
+	 */
+	public static XStream create(HierarchicalStreamDriver driver) {
+		ObservableProvider provider = new ObservableProvider(new DefaultFieldsProvider(JVM.newReflectionProvider()));
+		XStream xStream = createAliased(provider, driver);
+		xStream.autodetectAnnotations(true);
+		if (provider.canRestoreObservers()) {
+			for (String field : OBSERVABLE_FIELDS) {
+				xStream.omitField(Observable.class, field);
+			}
+		}
+		xStream.setMode(XStream.ID_REFERENCES);
+		return xStream;
+	}
+
+	/**
+	 * Creates an XStream that reads and writes the sections of a snapshot in
+	 * the current schema. A game's section leaves out its levels and its
+	 * information's actor map, and a level's section leaves out the game that
+	 * the level and its actors point back to, so that each level can be read
+	 * on its own.
+	 *
+	 * @param driver
+	 *            The format to read and write
+	 */
+	public static XStream createSections(HierarchicalStreamDriver driver) {
+		XStream xStream = create(driver);
+		xStream.omitField(Game.class, "levels");
+		xStream.omitField(GameInfo.class, "myActorMap");
+		xStream.omitField(Level.class, "myGame");
+		xStream.omitField(Actor.class, "myGame");
+		return xStream;
+	}
+
+	/**
+	 * Creates an XStream that reads files whose shared objects are referred to
+	 * by path. A path may lead through a field that is no longer saved, such
+	 * as a Game's current actors or an Observable's listeners, or through one
+	 * that no longer exists, such as a Game's active triggers, so every field
+	 * in the file is read. The listeners and the removed fields are read only
+	 * to be dropped.
+	 *
+	 * @param driver
+	 *            The format to read
+	 */
+	public static XStream createLegacy(HierarchicalStreamDriver driver) {
+		XStream xStream = createAliased(new RemovedFieldsProvider(JVM.newReflectionProvider()), driver);
+		xStream.registerLocalConverter(Observable.class, OBSERVERS_FIELD,
+				new DroppedObserversConverter(xStream.getMapper()));
+		return xStream;
+	}
+
+	private static void addDefault(Class<?> owner, String field, Supplier<Object> value) {
+		FIELD_DEFAULTS.computeIfAbsent(owner, key -> new HashMap<>()).put(field, value);
+	}
+
+	private static XStream createAliased(ReflectionProvider provider, HierarchicalStreamDriver driver) {
+		XStream xStream = new XStream(provider, driver);
+		xStream.ignoreUnknownElements();
+		for (String[] alias : PACKAGE_ALIASES) {
+			xStream.aliasPackage(alias[0], alias[1]);
+		}
+		return xStream;
+	}
+
+	/**
+	 * Lets XStream read the fields of legacy files that no longer exist, so
+	 * that the paths that lead through them can be followed. A removed field
+	 * is found in RemovedFields, and whatever is read into it is dropped.
+	 */
+	private static class RemovedFieldsProvider extends ReflectionProviderWrapper {
+		private static final Map<String, Class<?>> REMOVED_FIELD_OWNERS = new HashMap<>();
+		static {
+			REMOVED_FIELD_OWNERS.put("activeTriggers", Game.class);
+		}
+
+		private RemovedFieldsProvider(ReflectionProvider wrapped) {
+			super(wrapped);
+		}
+
+		@Override
+		public Field getFieldOrNull(@SuppressWarnings("rawtypes") Class definedIn, String fieldName) {
+			Field field = super.getFieldOrNull(definedIn, fieldName);
+			Class<?> owner = REMOVED_FIELD_OWNERS.get(fieldName);
+			if (field == null && owner != null && owner.isAssignableFrom(definedIn)) {
+				try {
+					return RemovedFields.class.getDeclaredField(fieldName);
+				} catch (NoSuchFieldException e) {
+					return null;
+				}
+			}
+			return field;
+		}
+
+		@Override
+		public void writeField(Object object, String fieldName, Object value,
+				@SuppressWarnings("rawtypes") Class definedIn) {
+			if (definedIn != RemovedFields.class) {
+				super.writeField(object, fieldName, value, definedIn);
+			}
+		}
+	}
+
+	/**
+	 * The types that removed fields were saved as
+	 */
+	@SuppressWarnings("unused")
+	private static class RemovedFields {
+		private HashMap<?, ?> activeTriggers;
+	}
+
+	/**
+	 * Reads an Observable's saved listeners, so that the paths that lead
+	 * through them can be followed, and gives the Observable an empty list
+	 * of listeners instead
+	 */
+	private static class DroppedObserversConverter extends CollectionConverter {
+
+		private DroppedObserversConverter(Mapper mapper) {
+			super(mapper, Vector.class);
+		}
+
+		@Override
+		public Object unmarshal(HierarchicalStreamReader reader, UnmarshallingContext context) {
+			super.unmarshal(reader, context);
+			return new Vector<>();
+		}
+	}
+
+	/**
+	 * Leaves out the fields of saved objects that hold their default value,
+	 * and gives every object that XStream creates the defaults in
+	 * FIELD_DEFAULTS. A number is only left out when it is zero if XStream
+	 * creates objects without calling their constructors, so that it is zero
+	 * again when the object is loaded.
+	 */
+	private static class DefaultFieldsProvider extends ReflectionProviderWrapper {
+		private boolean mySkipsZeros;
+
+		private DefaultFieldsProvider(ReflectionProvider wrapped) {
+			super(wrapped);
+			mySkipsZeros = wrapped instanceof SunUnsafeReflectionProvider;
+		}
+
+		@Override
+		public void visitSerializableFields(Object object, Visitor visitor) {
+			super.visitSerializableFields(object, new Visitor() {
+				@Override
+				public void visit(String name, @SuppressWarnings("rawtypes") Class type,
+						@SuppressWarnings("rawtypes") Class definedIn, Object value) {
+					if (!isDefault(name, type, definedIn, value)) {
+						visitor.visit(name, type, definedIn, value);
+					}
+				}
+			});
+		}
+
+		@Override
+		public Object newInstance(@SuppressWarnings("rawtypes") Class type) {
+			Object instance = super.newInstance(type);
+			for (Class<?> owner = type; owner != null; owner = owner.getSuperclass()) {
+				Map<String, Supplier<Object>> defaults = FIELD_DEFAULTS.get(owner);
+				if (defaults != null) {
+					for (Map.Entry<String, Supplier<Object>> entry : defaults.entrySet()) {
+						super.writeField(instance, entry.getKey(), entry.getValue().get(), owner);
+					}
+				}
+			}
+			return instance;
+		}
+
+		private boolean isDefault(String name, Class<?> type, Class<?> definedIn, Object value) {
+			Map<String, Supplier<Object>> defaults = FIELD_DEFAULTS.get(definedIn);
+			if (defaults != null && defaults.containsKey(name)) {
+				Object defaultValue = defaults.get(name).get();
+				return value != null && value.getClass() == defaultValue.getClass() && value.equals(defaultValue);
+			}
+			return mySkipsZeros && type.isPrimitive() && isSaved(definedIn)
+					&& Array.get(Array.newInstance(type, 1), 0).equals(value);
+		}
+
+		private boolean isSaved(Class<?> definedIn) {
+			for (String savedPackage : SAVED_PACKAGES) {
+				if (definedIn.getName().startsWith(savedPackage)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Gives every Observable that XStream creates an empty list of observers,
+	 * since XStream creates objects without calling their constructors
+	 */
+	private static class ObservableProvider extends ReflectionProviderWrapper {
+		private Field myObservers;
+
+		private ObservableProvider(ReflectionProvider wrapped) {
+			super(wrapped);
+			try {
+				myObservers = Observable.class.getDeclaredField(OBSERVERS_FIELD);
+				myObservers.setAccessible(true);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				myObservers = null;
+			}
+		}
+
+		private boolean canRestoreObservers() {
+			return myObservers != null;
+		}
+
+		@Override
+		public Object newInstance(@SuppressWarnings("rawtypes") Class type) {
+			Object instance = super.newInstance(type);
+			if (canRestoreObservers() && instance instanceof Observable) {
+				try {
+					myObservers.set(instance, new Vector<>());
+				} catch (IllegalAccessException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+			return instance;
+		}
+	}
+}
@@ -0,0 +1,337 @@
+package gamedata.controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.io.xml.XppDriver;
+
+import authoringenvironment.model.IAuthoringActor;
+import authoringenvironment.model.IEditableGameElement;
+import gamedata.AutosaveJournal;
+import gamedata.XStreamSchema;
+import gameengine.controller.Game;
+import gameengine.controller.GameInfo;
+import gameengine.controller.IGame;
+import gameengine.controller.Level;
+import gameengine.model.Actor;
+import gameengine.model.IPlayActor;
+
+/**
+ * Autosaves a game being edited into an AutosaveJournal in
+ * gamefiles/autosave/, one directory per game. Each autosave compares the
+ * edit stamps of the game information, the levels and the reference actors
+ * with the stamps they were last saved at, and writes only the ones that
+ * changed; a level counts as changed when any of its actors did. The journal
+ * records keep the game information without its actor map, which is rebuilt
+ * from the reference actors' IDs, and are compacted into a full game file every
+ * few autosaves. The autosaves are deleted when the game is closed normally,
+ * so any found when the game is opened again are left from a session that did
+ * not close, and can be restored.
+ */
+public class AutosaveController implements IAutosaveController {
+
+	private static final String AUTOSAVE_DIRECTORY = "gamefiles/autosave";
+	private static final String UNTITLED = "untitled";
+	private static final String XML_EXTENSION = ".xml";
+	private static final String INFO_KEY = "info";
+	private static final String LEVEL_COUNT_KEY = "levels";
+	private static final String ACTOR_IDS_KEY = "actors";
+	private static final String LEVEL_KEY = "level/";
+	private static final String ACTOR_KEY = "actor/";
+	private static final int COMPACT_AFTER_AUTOSAVES = 20;
+	private static final long COMPACT_AFTER_BYTES = 4 * 1024 * 1024;
+
+	private IGame myGame;
+	private AutosaveJournal myJournal;
+	private ExecutorService myWriter;
+	private Map<Object, Long> mySavedVersions;
+	private Map<Object, String> mySavedKeys;
+	private int mySavedLevelCount;
+	private int[] mySavedActorIDs;
+	private volatile boolean myWriteFailed;
+	private int myAutosavesSinceCompaction;
+
+	/**
+	 * Autosaves a game into the directory named after its file, or its name if
+	 * it has not been saved yet
+	 *
+	 * @param game
+	 *            The game being edited
+	 */
+	public AutosaveController(IGame game) {
+		this(game, new File(AUTOSAVE_DIRECTORY, getProjectName(game)));
+	}
+
+	/**
+	 * @param game
+	 *            The game being edited
+	 * @param directory
+	 *            The directory to autosave into
+	 */
+	public AutosaveController(IGame game, File directory) {
+		myGame = game;
+		myJournal = new AutosaveJournal(directory, createXStream());
+		myWriter = Executors.newSingleThreadExecutor(task -> {
+			Thread thread = new Thread(task, "autosave");
+			thread.setDaemon(true);
+			return thread;
+		});
+		forgetSavedVersions();
+	}
+
+	@Override
+	public void autosave() {
+		if (myWriteFailed) {
+			myWriteFailed = false;
+			forgetSavedVersions();
+		}
+		Map<String, byte[]> payloads = new LinkedHashMap<>();
+		Map<Object, Long> versions = new IdentityHashMap<>();
+		Map<Object, String> keys = new IdentityHashMap<>();
+		GameInfo info = myGame.getInfo();
+		capture(info, INFO_KEY, info.getEditVersion(), payloads, versions, keys);
+		List<Level> levels = myGame.getLevels();
+		for (int i = 0; i < levels.size(); i++) {
+			Level level = levels.get(i);
+			capture(level, LEVEL_KEY + i, getLevelVersion(level), payloads, versions, keys);
+		}
+		List<IAuthoringActor> refActors = new ArrayList<>(info.getActorMap().keySet());
+		int[] actorIDs = new int[refActors.size()];
+		for (int i = 0; i < refActors.size(); i++) {
+			IAuthoringActor actor = refActors.get(i);
+			actorIDs[i] = actor.getID();
+			capture(actor, ACTOR_KEY + actor.getID(), actor.getEditVersion(), payloads, versions, keys);
+		}
+		if (levels.size() != mySavedLevelCount) {
+			payloads.put(LEVEL_COUNT_KEY, myJournal.toPayload(levels.size()));
+		}
+		if (!Arrays.equals(actorIDs, mySavedActorIDs)) {
+			payloads.put(ACTOR_IDS_KEY, myJournal.toPayload(actorIDs));
+		}
+		mySavedVersions = versions;
+		mySavedKeys = keys;
+		mySavedLevelCount = levels.size();
+		mySavedActorIDs = actorIDs;
+		if (!payloads.isEmpty()) {
+			myWriter.execute(() -> write(payloads));
+		}
+	}
+
+	@Override
+	public void compact() {
+		myWriter.execute(this::compactJournal);
+	}
+
+	@Override
+	public CompletableFuture<IGame> restore() {
+		String file = myGame.getInfo().getMyFile();
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				IGame game = replay();
+				if (game != null) {
+					game.getInfo().setMyFile(file);
+				}
+				return game;
+			} catch (IOException e) {
+				return null;
+			}
+		}, myWriter);
+	}
+
+	@Override
+	public boolean hasAutosave() {
+		return myJournal.exists();
+	}
+
+	@Override
+	public void setGame(IGame game) {
+		myGame = game;
+		forgetSavedVersions();
+	}
+
+	@Override
+	public void discard() {
+		forgetSavedVersions();
+		myWriter.execute(this::deleteJournal);
+	}
+
+	@Override
+	public File getAutosaveFile() {
+		return myJournal.getBaseFile();
+	}
+
+	@Override
+	public void close() {
+		myWriter.execute(this::deleteJournal);
+		myWriter.shutdown();
+	}
+
+	/**
+	 * Adds an element's payload if it was edited or moved since it was last
+	 * saved, and records the version and key it is now saved at
+	 */
+	private void capture(Object element, String key, long version, Map<String, byte[]> payloads,
+			Map<Object, Long> versions, Map<Object, String> keys) {
+		Long savedVersion = mySavedVersions.get(element);
+		if (savedVersion == null || savedVersion != version || !key.equals(mySavedKeys.get(element))) {
+			payloads.put(key, myJournal.toPayload(element));
+		}
+		versions.put(element, version);
+		keys.put(element, key);
+	}
+
+	/**
+	 * A level is written together with its actors, so it has changed when it
+	 * or any of its actors has
+	 */
+	private long getLevelVersion(Level level) {
+		long version = level.getEditVersion();
+		for (IPlayActor actor : level.getActors()) {
+			version = Math.max(version, ((IEditableGameElement) actor).getEditVersion());
+		}
+		return version;
+	}
+
+	private void forgetSavedVersions() {
+		mySavedVersions = new IdentityHashMap<>();
+		mySavedKeys = new IdentityHashMap<>();
+		mySavedLevelCount = -1;
+		mySavedActorIDs = null;
+	}
+
+	private void write(Map<String, byte[]> payloads) {
+		try {
+			myJournal.append(payloads);
+		} catch (IOException e) {
+			// everything is saved again by the next autosave
+			myWriteFailed = true;
+			return;
+		}
+		myAutosavesSinceCompaction++;
+		try {
+			if (myAutosavesSinceCompaction >= COMPACT_AFTER_AUTOSAVES
+					|| myJournal.length() >= COMPACT_AFTER_BYTES) {
+				compactJournal();
+			}
+		} catch (IOException e) {
+			// the journal is kept, and compacted after the next autosave
+		}
+	}
+
+	private void deleteJournal() {
+		myJournal.delete();
+		myAutosavesSinceCompaction = 0;
+	}
+
+	private void compactJournal() {
+		try {
+			IGame game = replay();
+			if (game != null) {
+				myJournal.compact(game);
+				myAutosavesSinceCompaction = 0;
+			}
+		} catch (IOException e) {
+			// the journal is kept, and compacted after the next autosave
+		}
+	}
+
+	/**
+	 * Applies the journal's records to the last compacted game
+	 */
+	private IGame replay() throws IOException {
+		Map<String, Object> records = myJournal.replay();
+		Object base = myJournal.loadBase();
+		if (records.isEmpty()) {
+			return base instanceof IGame ? (IGame) base : null;
+		}
+		List<Level> baseLevels = new ArrayList<>();
+		Map<Integer, IAuthoringActor> refActors = new LinkedHashMap<>();
+		GameInfo info = null;
+		if (base instanceof IGame) {
+			info = ((IGame) base).getInfo();
+			baseLevels = ((IGame) base).getLevels();
+			info.getActorMap().keySet().forEach(actor -> refActors.put(actor.getID(), actor));
+		}
+		if (records.containsKey(INFO_KEY)) {
+			info = (GameInfo) records.get(INFO_KEY);
+		}
+		if (info == null) {
+			info = new GameInfo();
+		}
+		int levelCount = records.containsKey(LEVEL_COUNT_KEY) ? (Integer) records.get(LEVEL_COUNT_KEY)
+				: baseLevels.size();
+		List<Level> levels = new ArrayList<>();
+		for (int i = 0; i < levelCount; i++) {
+			Object level = records.containsKey(LEVEL_KEY + i) ? records.get(LEVEL_KEY + i)
+					: i < baseLevels.size() ? baseLevels.get(i) : null;
+			if (level != null) {
+				levels.add((Level) level);
+			}
+		}
+		int[] actorIDs = records.containsKey(ACTOR_IDS_KEY) ? (int[]) records.get(ACTOR_IDS_KEY)
+				: refActors.keySet().stream().mapToInt(Integer::intValue).toArray();
+		Map<IAuthoringActor, List<IAuthoringActor>> actorMap = new HashMap<>();
+		for (int id : actorIDs) {
+			Object actor = records.containsKey(ACTOR_KEY + id) ? records.get(ACTOR_KEY + id) : refActors.get(id);
+			if (actor != null) {
+				actorMap.put((IAuthoringActor) actor, getCopies(id, levels));
+			}
+		}
+		info.setActorMap(actorMap);
+		info.setMyFile(myJournal.getBaseFile().getName());
+		return new Game(myJournal.getBaseFile().getPath(), info, levels);
+	}
+
+	/**
+	 * Finds the copies of a reference actor placed in the levels, which share
+	 * its ID
+	 */
+	private List<IAuthoringActor> getCopies(int id, List<Level> levels) {
+		List<IAuthoringActor> copies = new ArrayList<>();
+		for (Level level : levels) {
+			for (IPlayActor actor : level.getActors()) {
+				if (actor.getID() == id) {
+					copies.add((IAuthoringActor) actor);
+				}
+			}
+		}
+		return copies;
+	}
+
+	/**
+	 * The journal leaves out what a record's owner only points to: the game
+	 * information's actor map and the running game of levels and actors
+	 */
+	private static XStream createXStream() {
+		XStream xStream = XStreamSchema.create(new XppDriver());
+		xStream.omitField(GameInfo.class, "myActorMap");
+		xStream.omitField(Level.class, "myGame");
+		xStream.omitField(Actor.class, "myGame");
+		return xStream;
+	}
+
+	private static String getProjectName(IGame game) {
+		String name = game.getInfo().getMyFile();
+		if (name == null) {
+			name = game.getInfo().getName();
+		}
+		if (name == null || name.isEmpty()) {
+			return UNTITLED;
+		}
+		if (name.endsWith(XML_EXTENSION)) {
+			name = name.substring(0, name.length() - XML_EXTENSION.length());
+		}
+		return name.replaceAll("[^A-Za-z0-9_-]", "_");
+	}
+}
@@ -8,6 +8,7 @@ import javax.xml.transform.TransformerException;
 
 import org.xml.sax.SAXException;
 
+import gamedata.GameOverlay;
 import gamedata.XMLCreator;
 import gameengine.controller.IGame;
 
@@ -15,32 +16,55 @@ public class CreatorController implements ICreatorController {
 
 	private IGame myGame;
 	private XMLCreator myXMLCreator;
+	private ISnapshotController mySnapshotController;
 
 	public CreatorController(IGame iGame) {
 		this.myGame = iGame;
 		this.myXMLCreator = new XMLCreator();
+		this.mySnapshotController = new SnapshotController();
 	}
 
+	/**
+	 * Saves the full game once, to its loader file, and saves the playing file
+	 * as a GameOverlay on top of it
+	 */
 	@Override
 	public void saveForEditing(File file) throws SAXException, IOException, TransformerException, ParserConfigurationException {
+		myGame.restoreActorMap();
 		File loaderFile = createLoaderFileFromFile(file);
 		myGame.setInitialGameFile(loaderFile.getPath());
 		myGame.getInfo().setMyFile(loaderFile.getName());
 		this.myXMLCreator.save(myGame, loaderFile);
-		myGame.setInitialGameFile(loaderFile.getPath());
+		saveSnapshot(loaderFile);
 		myGame.getInfo().setMyFile(file.getName());
-		saveForPlaying(file);
-
+		this.myXMLCreator.save(new GameOverlay(file, loaderFile, myGame), file);
 	}
 	
 	public void saveForPreviewing(File file) throws SAXException, IOException, TransformerException, ParserConfigurationException {
+		myGame.restoreActorMap();
 		this.myXMLCreator.save(myGame, file);
 	}
 
+	/**
+	 * Saves the game to an XML file and a binary snapshot of it for the player
+	 * to load. If the snapshot cannot be written, the player loads the XML. A
+	 * game that is being played reads back its actor map first, so that the
+	 * saved game can still be edited.
+	 */
 	@Override
 	public void saveForPlaying(File file) throws ParserConfigurationException, SAXException, IOException, TransformerException {
+			myGame.restoreActorMap();
 			myGame.getInfo().setMyFile(file.getName());
 			this.myXMLCreator.save(myGame, file);
+			saveSnapshot(file);
+	}
+
+	private void saveSnapshot(File file) {
+		try {
+			this.mySnapshotController.save(myGame, file);
+		} catch (IOException e) {
+			// the stale snapshot no longer matches the XML, which is loaded instead
+		}
 	}
 
 	private File createLoaderFileFromFile(File f) {
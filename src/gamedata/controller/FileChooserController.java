@@ -4,6 +4,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ResourceBundle;
 
 import authoringenvironment.controller.Controller;
+import gamedata.GameCatalogEntry;
 import gamedata.view.FileChooserScreen;
 import gameengine.controller.Game;
 import gameplayer.controller.BaseScreenController;
@@ -46,46 +47,59 @@ public class FileChooserController extends BranchScreenController {
 
 	/**
 	 * Transitions to a base screen controller and passes in the user-selected game to play
-	 * @param game
+	 * @param entry
 	 */
-	private void goPlay(Game game) {
-		BaseScreenController baseScreenController = new BaseScreenController(getStage(), new GameController(game));
+	private void goPlay(GameCatalogEntry entry) {
+		Game game = GameCatalog.getInstance().load(entry);
+		if (checkNullGame(game)) {
+			alert("choose");
+		}
+		else {
+			BaseScreenController baseScreenController = new BaseScreenController(getStage(), new GameController(game));
+		}
 	}
 
 	/**
-	 * Transitions to a high score controller and passes in  the user-selected game to view scores
-	 * @param game
+	 * Transitions to a high score controller and passes in  the user-selected game to view scores. The game
+	 * itself is not loaded, since its scores are kept by the file name in its catalog entry
+	 * @param entry
 	 */
-	private void goScores(Game game) {
-		HighScoresController controller = new HighScoresController(game.getInfo().getMyFile(), myScreen);
+	private void goScores(GameCatalogEntry entry) {
+		HighScoresController controller = new HighScoresController(entry.getGameFile(), myScreen);
 		HighScoreScreenController highScoreScreenController = new HighScoreScreenController(getStage(), controller);
 	}
 
 	/**
 	 * Transition to the game authoring environment and passes in the user-selected game to edit
-	 * @param game
+	 * @param entry
 	 */
-	private void goEdit(Game game) {
-		Controller GUIMainController = new Controller(game, getStage());
+	private void goEdit(GameCatalogEntry entry) {
+		Game game = GameCatalog.getInstance().loadWholeGame(entry);
+		if (checkNullGame(game)) {
+			alert("choose");
+		}
+		else {
+			Controller GUIMainController = new Controller(game, getStage());
+		}
 	}
 
 	/**
 	 * This method is used by reflection in other controllers and maps the specific user intention to which method should be invoked
-	 * @param game
+	 * @param entry
 	 * @throws IllegalAccessException
 	 * @throws IllegalArgumentException
 	 * @throws InvocationTargetException
 	 * @throws NoSuchMethodException
 	 * @throws SecurityException
 	 */
-	private void go(Game game) throws IllegalAccessException, IllegalArgumentException, InvocationTargetException,
+	private void go(GameCatalogEntry entry) throws IllegalAccessException, IllegalArgumentException, InvocationTargetException,
 			NoSuchMethodException, SecurityException {
-		if (game == null) {
+		if (entry == null) {
 			alert("choose");
 		}
 		else {
-			Class[] parameterTypes = { Game.class };
-			Object[] parameters = {game};
+			Class[] parameterTypes = { GameCatalogEntry.class };
+			Object[] parameters = {entry};
 			this.getClass().getDeclaredMethod("go" + getType(), parameterTypes).invoke(this, parameters);
 		}
 	}
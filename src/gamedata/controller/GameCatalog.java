@@ -0,0 +1,158 @@
+package gamedata.controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Observable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import gamedata.GameCatalogEntry;
+import gamedata.XMLCreator;
+import gamedata.XMLParser;
+import gameengine.controller.Game;
+
+/**
+ * An index of the games in gamefiles/, kept in gamefiles/catalog/games.xml, so
+ * that the game choosers can list games without loading them. The saved index
+ * is read when the catalog is created; refreshing it scans the directory on a
+ * background thread and reads, in parallel, only the files that are new or
+ * have changed length or modification time since they were indexed. Observers
+ * are notified with the entries at the end of every scan, on the scanning
+ * thread.
+ */
+public class GameCatalog extends Observable {
+
+	private static final String GAME_DIRECTORY = "gamefiles";
+	private static final String CATALOG_FILE = "catalog/games.xml";
+	private static final String XML_EXTENSION = ".xml";
+
+	private static GameCatalog instance;
+
+	private File myDirectory;
+	private File myCatalogFile;
+	private Map<String, GameCatalogEntry> myEntries;
+	private ExecutorService myScanner;
+	private Future<?> myScan;
+	private ThreadLocal<IParserController> myParsers;
+
+	/**
+	 * @param directory
+	 *            The directory of game files to index
+	 */
+	public GameCatalog(File directory) {
+		myDirectory = directory;
+		myCatalogFile = new File(directory, CATALOG_FILE);
+		myEntries = new HashMap<>();
+		Object saved = new XMLParser().load(myCatalogFile);
+		if (saved instanceof List) {
+			for (Object entry : (List<?>) saved) {
+				if (entry instanceof GameCatalogEntry) {
+					myEntries.put(((GameCatalogEntry) entry).getPath(), (GameCatalogEntry) entry);
+				}
+			}
+		}
+		myScanner = Executors.newSingleThreadExecutor(task -> {
+			Thread thread = new Thread(task, "game-catalog");
+			thread.setDaemon(true);
+			return thread;
+		});
+		myParsers = ThreadLocal.withInitial(ParserController::new);
+	}
+
+	/**
+	 * @return The catalog of gamefiles/, shared by all game choosers
+	 */
+	public static synchronized GameCatalog getInstance() {
+		if (instance == null) {
+			instance = new GameCatalog(new File(GAME_DIRECTORY));
+		}
+		return instance;
+	}
+
+	/**
+	 * @return The indexed games, by path, as of the last scan
+	 */
+	public synchronized List<GameCatalogEntry> getEntries() {
+		List<GameCatalogEntry> entries = new ArrayList<>(myEntries.values());
+		entries.sort(Comparator.comparing(GameCatalogEntry::getPath));
+		return entries;
+	}
+
+	/**
+	 * Scans the directory in the background, unless a scan is already
+	 * running
+	 */
+	public synchronized void refresh() {
+		if (myScan == null || myScan.isDone()) {
+			myScan = myScanner.submit(this::scan);
+		}
+	}
+
+	/**
+	 * Loads the game an entry was made from for playing, reading its levels
+	 * as they are reached
+	 *
+	 * @return The game, ready to play, or null if it cannot be loaded
+	 */
+	public Game load(GameCatalogEntry entry) {
+		return new ParserController().loadforPlaying(entry.getFile());
+	}
+
+	/**
+	 * Loads the game an entry was made from with all of its levels
+	 *
+	 * @return The game, ready to edit, or null if it cannot be loaded
+	 */
+	public Game loadWholeGame(GameCatalogEntry entry) {
+		return new ParserController().loadWholeGame(entry.getFile());
+	}
+
+	private void scan() {
+		File[] files = myDirectory.listFiles(file -> file.isFile() && file.getName().contains(XML_EXTENSION));
+		if (files == null) {
+			files = new File[0];
+		}
+		Map<String, GameCatalogEntry> known;
+		synchronized (this) {
+			known = new HashMap<>(myEntries);
+		}
+		List<GameCatalogEntry> scanned = Arrays.stream(files).parallel().map(file -> {
+			GameCatalogEntry entry = known.get(file.getPath());
+			return entry != null && entry.isCurrent(file) ? entry : index(file);
+		}).filter(Objects::nonNull).collect(Collectors.toList());
+		Map<String, GameCatalogEntry> entries = new HashMap<>();
+		scanned.forEach(entry -> entries.put(entry.getPath(), entry));
+		synchronized (this) {
+			myEntries = entries;
+		}
+		List<GameCatalogEntry> sorted = getEntries();
+		if (!entries.equals(known) || !myCatalogFile.isFile()) {
+			try {
+				new XMLCreator().save(new ArrayList<>(sorted), myCatalogFile);
+			} catch (IOException e) {
+				// the files are indexed again by the next scan
+			}
+		}
+		setChanged();
+		notifyObservers(Collections.unmodifiableList(sorted));
+	}
+
+	private GameCatalogEntry index(File file) {
+		Game game = myParsers.get().loadSavedGame(file);
+		if (game == null || game.getInfo() == null) {
+			return null;
+		}
+		int levelCount = game.getLevels() == null ? 0 : game.getLevels().size();
+		return new GameCatalogEntry(file, game.getInfo(), levelCount);
+	}
+}
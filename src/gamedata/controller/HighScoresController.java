@@ -12,9 +12,8 @@ import javax.xml.transform.TransformerException;
 
 import org.xml.sax.SAXException;
 
-import gamedata.XMLCreator;
-import gamedata.XMLParser;
-import gameengine.controller.HighScoresKeeper;
+import gamedata.ScoreLog;
+import gameengine.controller.ScoreEntry;
 import gui.view.Screen;
 
 /**
@@ -26,20 +25,30 @@ import gui.view.Screen;
 public class HighScoresController implements IHighScoresController {
 
 	private static final String HIGH_SCORES_FILE = "src/resources/highScores.xml";
+	private static final String HIGH_SCORES_LOG = "src/resources/highScores.log";
+	private static ScoreLog scoreLog;
 
 	private String myGameFile;
-	private File myFile;
 	private Screen myScreen;
 
 	public HighScoresController(String gameFile, Screen screen) {
 		this.myGameFile = gameFile;
-		myFile = new File(HIGH_SCORES_FILE);
 		this.myScreen = screen;
 	}
 
 	public HighScoresController(String gameFile) {
 		this.myGameFile = gameFile;
-		myFile = new File(HIGH_SCORES_FILE);
+	}
+
+	/**
+	 * Provides the scores of every game, which are read from disk once and
+	 * shared by all controllers
+	 */
+	private static synchronized ScoreLog getScoreLog() {
+		if (scoreLog == null) {
+			scoreLog = new ScoreLog(new File(HIGH_SCORES_FILE), new File(HIGH_SCORES_LOG));
+		}
+		return scoreLog;
 	}
 
 	/**
@@ -47,38 +56,32 @@ public class HighScoresController implements IHighScoresController {
 	 */
 	@Override
 	public Map<String, Integer> getGameHighScores() {
-		if (getAllGameScores().get(myGameFile) == null) {
+		Map<String, Integer> scores = getScoreLog().getGameScores(myGameFile);
+		if (scores == null) {
 			return new HashMap<String, Integer>();
 		}
-		return getAllGameScores().get(myGameFile);
+		return scores;
 	}
 	
 	/**
-	 * Parses and reads all saved scores of all available games
+	 * Provides all saved scores of all available games
 	 */
 	@Override
 	public Map<String, Map<String, Integer>> getAllGameScores() {
-		XMLParser scoresParser = new XMLParser();
-		HighScoresKeeper myKeeper = (HighScoresKeeper) scoresParser.load(myFile);
-		if (myKeeper == null) {
-			myKeeper = new HighScoresKeeper();
-		}
-		return myKeeper.getMyScores();
+		return getScoreLog().getAllGameScores();
 	}
 
 	/**
-	 * Clears the high scores of a specific game in the xml file
+	 * Clears the high scores of a specific game by appending to the score log
 	 */
 	@Override
 	public void clearHighScores() throws SAXException, IOException, TransformerException, ParserConfigurationException {
-		HighScoresKeeper newKeeper = new HighScoresKeeper(getAllGameScores());
-		newKeeper.clearGameScores(myGameFile);
-		XMLCreator scoresCreator = new XMLCreator();
-		scoresCreator.save(newKeeper, myFile);
+		getScoreLog().clearGameScores(myGameFile);
 	}
 
 	/**
-	 * Saves a new high score to the master entity of all game scores
+	 * Saves new high scores by appending them to the score log, each as a new
+	 * entry in the game's ranking
 	 */
 	@Override
 	public void saveHighScore(List<Integer> scores, List<String> players) throws SAXException, IOException, TransformerException, ParserConfigurationException {
@@ -87,13 +90,30 @@ public class HighScoresController implements IHighScoresController {
 		while (completePlayers.size() < scores.size()) {
 			completePlayers.add("");
 		}
-		HighScoresKeeper updatedKeeper = new HighScoresKeeper(getAllGameScores());
-		
+		ScoreLog log = getScoreLog();
 		for (int i=0; i<scores.size(); i++) {
-			updatedKeeper.addScore(myGameFile, completePlayers.get(i).trim(), scores.get(i));
+			log.addScore(myGameFile, completePlayers.get(i).trim(), scores.get(i));
 		}
-		XMLCreator scoresCreator = new XMLCreator();
-		scoresCreator.save(updatedKeeper, myFile);
+	}
+
+	@Override
+	public List<ScoreEntry> getTopScores(int count) {
+		return getScoreLog().getTopScores(myGameFile, count);
+	}
+
+	@Override
+	public List<ScoreEntry> getScores(int fromRank, int count) {
+		return getScoreLog().getScores(myGameFile, fromRank, count);
+	}
+
+	@Override
+	public int getRank(String player) {
+		return getScoreLog().getRank(myGameFile, player);
+	}
+
+	@Override
+	public int getScoreCount() {
+		return getScoreLog().getScoreCount(myGameFile);
 	}
 
 	public String getGameFile() {
@@ -0,0 +1,75 @@
+package gamedata.controller;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+
+import gameengine.controller.IGame;
+
+/**
+ * The purpose of this interface is to autosave a game while it is being
+ * edited, without blocking the thread the editing happens on. Only the levels,
+ * actors and game information edited since the last autosave are saved, and
+ * they are written to disk in the background.
+ */
+public interface IAutosaveController {
+
+	/**
+	 * Saves the elements of the game that have been edited since the last
+	 * autosave. Must be called on the thread that edits the game; the files
+	 * are written on another thread.
+	 */
+	public void autosave();
+
+	/**
+	 * Saves the whole game into one file in the background, once the pending
+	 * autosaves have been written
+	 */
+	public void compact();
+
+	/**
+	 * Rebuilds the game from its autosaves in the background, once the pending
+	 * autosaves have been written
+	 *
+	 * @return The autosaved game, completed with null if nothing has been
+	 *         autosaved or the autosaves cannot be read. It is completed on the
+	 *         thread that writes the autosaves.
+	 */
+	public CompletableFuture<IGame> restore();
+
+	/**
+	 * States whether the game has autosaves left from an earlier session, which
+	 * was not closed
+	 *
+	 * @return True if anything has been autosaved
+	 */
+	public boolean hasAutosave();
+
+	/**
+	 * Autosaves another game in place of the one being autosaved, such as the
+	 * game restored from its autosaves. Every element of it is saved by the
+	 * next autosave.
+	 *
+	 * @param game
+	 *            The game now being edited
+	 */
+	public void setGame(IGame game);
+
+	/**
+	 * Deletes the game's autosaves, once the pending autosaves have been
+	 * written. Every element of the game is saved again by the next autosave.
+	 */
+	public void discard();
+
+	/**
+	 * @return The file the whole game is saved to when it is compacted
+	 */
+	public File getAutosaveFile();
+
+	/**
+	 * Stops autosaving once the game has been closed normally, and deletes its
+	 * autosaves in the background, since they are only kept to recover the
+	 * game after a session that did not close
+	 */
+	public void close();
+
+}
@@ -9,6 +9,8 @@ import javax.xml.transform.TransformerException;
 
 import org.xml.sax.SAXException;
 
+import gameengine.controller.ScoreEntry;
+
 /**
  * The purpose of this interface is to serve as the public interface with which
  * the ISplashScreen can interact to deal with high scores functionality if the
@@ -59,5 +61,38 @@ public interface IHighScoresController {
 	 */
 	public void clearHighScores() throws SAXException, IOException, ParserConfigurationException, TransformerException;
 
+	/**
+	 * Enables Game Player to show the best scores of the game, ranked
+	 * 
+	 * @param count
+	 *            the most score entries to return
+	 * @return List<ScoreEntry> of the game's highest score entries, best first
+	 */
+	public List<ScoreEntry> getTopScores(int count);
+
+	/**
+	 * Enables Game Player to show the game's ranking one page at a time
+	 * 
+	 * @param fromRank
+	 *            the rank (from 1) of the first score entry to return
+	 * @param count
+	 *            the most score entries to return
+	 * @return List<ScoreEntry> of the game's score entries from that rank on
+	 */
+	public List<ScoreEntry> getScores(int fromRank, int count);
+
+	/**
+	 * Enables Game Player to show where a player stands in the game
+	 * 
+	 * @param player
+	 * @return the rank (from 1) of the player's best score in the game, or 0
+	 *         if the player has no score in it
+	 */
+	public int getRank(String player);
+
+	/**
+	 * @return the number of score entries saved for the game
+	 */
+	public int getScoreCount();
 
 }
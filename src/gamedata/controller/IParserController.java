@@ -50,4 +50,26 @@ public interface IParserController {
 	public Game loadforPlaying(File file)
 			throws ParserConfigurationException, SAXException, IOException, TransformerException;
 
+	/**
+	 * Loads a game like loadforPlaying, but reads every level up front and
+	 * puts back the actor map of its information, as the authoring
+	 * environment needs
+	 * 
+	 * @return the game, or null if the file holds no game
+	 * @param the
+	 *            file to read
+	 */
+	public Game loadWholeGame(File file);
+
+	/**
+	 * Reads a game file as it was saved, without preparing the game to be
+	 * played or edited, for when only its information and levels are needed.
+	 * Levels saved in a snapshot are only read when they are asked for.
+	 * 
+	 * @return the saved game, or null if the file holds no game
+	 * @param the
+	 *            file to read
+	 */
+	public Game loadSavedGame(File file);
+
 }
@@ -0,0 +1,77 @@
+package gamedata.controller;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * The purpose of this interface is to provide the binary snapshots that the
+ * game player loads in place of a game's XML file, and the converters between
+ * the two forms.
+ */
+public interface ISnapshotController {
+
+	/**
+	 * Provides where the snapshot of an XML game file is kept
+	 *
+	 * @param xmlFile
+	 *            The XML game file
+	 * @return The snapshot file, which may not exist
+	 */
+	public File getSnapshotFile(File xmlFile);
+
+	/**
+	 * Loads the snapshot of an XML game file
+	 *
+	 * @param xmlFile
+	 *            The XML game file
+	 * @return The saved object, or null if there is no snapshot that matches
+	 *         the XML file
+	 */
+	public Object load(File xmlFile);
+
+	/**
+	 * Loads the snapshot of an XML game file, leaving a game's levels to be
+	 * read as they are needed
+	 *
+	 * @param xmlFile
+	 *            The XML game file
+	 * @return The saved object, or null if there is no snapshot that matches
+	 *         the XML file
+	 */
+	public Object loadLazily(File xmlFile);
+
+	/**
+	 * Saves the snapshot of an object that was just written to an XML game
+	 * file
+	 *
+	 * @param object
+	 *            The object in the XML file
+	 * @param xmlFile
+	 *            The XML game file
+	 * @throws IOException
+	 */
+	public void save(Object object, File xmlFile) throws IOException;
+
+	/**
+	 * Writes the snapshot of an XML game file
+	 *
+	 * @param xmlFile
+	 *            The XML game file
+	 * @return whether the XML file could be loaded
+	 * @throws IOException
+	 */
+	public boolean convertToSnapshot(File xmlFile) throws IOException;
+
+	/**
+	 * Writes the XML form of a snapshot
+	 *
+	 * @param snapshotFile
+	 *            The snapshot to convert
+	 * @param xmlFile
+	 *            The XML file to write
+	 * @return whether the snapshot could be loaded
+	 * @throws IOException
+	 */
+	public boolean convertToXML(File snapshotFile, File xmlFile) throws IOException;
+
+}
@@ -2,33 +2,53 @@ package gamedata.controller;
 
 import java.io.File;
 
+import gamedata.GameOverlay;
 import gamedata.XMLParser;
 import gameengine.controller.Game;
 
 public class ParserController implements IParserController {
 
 	private XMLParser myXMLParser;
+	private ISnapshotController mySnapshotController;
 
 	public ParserController() {
 		this.myXMLParser = new XMLParser();
-
+		this.mySnapshotController = new SnapshotController();
 	}
 
 	@Override
 	public Game loadForEditing(File file) {
-		Game playingGame = loadforPlaying(file);
+		Game playingGame = loadSavedGame(file);
 		if (playingGame == null) {
 			return null;
 		}
 		else {
 			File editingFile = new File(playingGame.getInitialGameFile());
-			return loadforPlaying(editingFile);
+			return loadWholeGame(editingFile);
 		}
 	}
 
+	/**
+	 * Loads a game for playing. A playing file that only holds a GameOverlay
+	 * is applied to the game in its loader file. A game with a snapshot reads
+	 * each level from it when the level is reached.
+	 */
 	@Override
 	public Game loadforPlaying(File file) {
-		Game XMLgame = (Game) this.myXMLParser.load(file);
+		return createPlayableGame(loadSavedGame(file));
+	}
+
+	@Override
+	public Game loadWholeGame(File file) {
+		return createPlayableGame(loadSavedGame(file, false));
+	}
+
+	@Override
+	public Game loadSavedGame(File file) {
+		return loadSavedGame(file, true);
+	}
+
+	private Game createPlayableGame(Game XMLgame) {
 		if (XMLgame == null) {
 			return null;
 		}
@@ -39,7 +59,7 @@ public class ParserController implements IParserController {
 					XMLgame.getMyPhysicsEngine(),
 					XMLgame.getMyCollisonDetector(),
 					XMLgame.getActiveTriggers(),
-					XMLgame.getAnimation(),
+					XMLgame.getClock(),
 					XMLgame.getCurrentActors(),
 					XMLgame.getDeadActors(),
 					XMLgame.getLevelTime(),
@@ -47,4 +67,31 @@ public class ParserController implements IParserController {
 		}
 	}
 
-}
\ No newline at end of file
+	private Game loadSavedGame(File file, boolean lazily) {
+		Object loaded = load(file, lazily);
+		if (loaded instanceof GameOverlay) {
+			GameOverlay overlay = (GameOverlay) loaded;
+			File baseFile = overlay.getBaseFile(file);
+			loaded = load(baseFile, lazily);
+			if (loaded instanceof Game) {
+				overlay.applyTo((Game) loaded, baseFile);
+			}
+		}
+		return loaded instanceof Game ? (Game) loaded : null;
+	}
+
+	/**
+	 * Loads the snapshot of a file, or the XML file itself if there is no
+	 * snapshot that matches it
+	 */
+	private Object load(File file, boolean lazily) {
+		Object loaded = null;
+		if (file != null) {
+			loaded = lazily ? this.mySnapshotController.loadLazily(file) : this.mySnapshotController.load(file);
+		}
+		if (loaded == null) {
+			loaded = this.myXMLParser.load(file);
+		}
+		return loaded;
+	}
+}
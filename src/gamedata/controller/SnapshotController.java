@@ -0,0 +1,88 @@
+package gamedata.controller;
+
+import java.io.File;
+import java.io.IOException;
+
+import gamedata.SnapshotCreator;
+import gamedata.SnapshotParser;
+import gamedata.XMLCreator;
+import gamedata.XMLParser;
+
+/**
+ * Keeps binary snapshots of game files beside them, in a snapshots/ folder
+ * next to the XML, and converts between the two forms. The XML file stays the
+ * one that is edited; its snapshot is only used while it matches the XML.
+ */
+public class SnapshotController implements ISnapshotController {
+
+	private static final String SNAPSHOT_DIRECTORY = "snapshots";
+	private static final String SNAPSHOT_EXTENSION = ".snapshot";
+	private static final String GAME_DIRECTORY = "gamefiles";
+	private static final String XML_EXTENSION = ".xml";
+
+	private SnapshotCreator mySnapshotCreator;
+	private SnapshotParser mySnapshotParser;
+
+	public SnapshotController() {
+		this.mySnapshotCreator = new SnapshotCreator();
+		this.mySnapshotParser = new SnapshotParser();
+	}
+
+	@Override
+	public File getSnapshotFile(File xmlFile) {
+		File directory = new File(xmlFile.getAbsoluteFile().getParentFile(), SNAPSHOT_DIRECTORY);
+		return new File(directory, xmlFile.getName() + SNAPSHOT_EXTENSION);
+	}
+
+	@Override
+	public Object load(File xmlFile) {
+		return mySnapshotParser.load(getSnapshotFile(xmlFile), xmlFile);
+	}
+
+	@Override
+	public Object loadLazily(File xmlFile) {
+		return mySnapshotParser.loadLazily(getSnapshotFile(xmlFile), xmlFile);
+	}
+
+	@Override
+	public void save(Object object, File xmlFile) throws IOException {
+		mySnapshotCreator.save(object, getSnapshotFile(xmlFile), xmlFile);
+	}
+
+	@Override
+	public boolean convertToSnapshot(File xmlFile) throws IOException {
+		Object object = new XMLParser().load(xmlFile);
+		if (object == null) {
+			return false;
+		}
+		save(object, xmlFile);
+		return true;
+	}
+
+	@Override
+	public boolean convertToXML(File snapshotFile, File xmlFile) throws IOException {
+		Object object = mySnapshotParser.load(snapshotFile);
+		if (object == null) {
+			return false;
+		}
+		new XMLCreator().save(object, xmlFile);
+		return true;
+	}
+
+	/**
+	 * Writes a snapshot of every XML game file in a directory, gamefiles/ by
+	 * default
+	 *
+	 * @param args
+	 *            The directory to convert
+	 */
+	public static void main(String[] args) throws IOException {
+		File directory = new File(args.length > 0 ? args[0] : GAME_DIRECTORY);
+		SnapshotController controller = new SnapshotController();
+		for (File file : directory.listFiles()) {
+			if (file.isFile() && file.getName().endsWith(XML_EXTENSION)) {
+				System.out.println(file.getName() + ": " + controller.convertToSnapshot(file));
+			}
+		}
+	}
+}
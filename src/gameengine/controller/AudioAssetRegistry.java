@@ -0,0 +1,147 @@
+package gameengine.controller;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.scene.media.AudioClip;
+import javafx.scene.media.Media;
+
+/**
+ * Index of the sound files a game may play. Registering a directory only
+ * records its file names; a file's Media, and its AudioClip if it is a short
+ * sound effect, are created the first time the sound is used or in the
+ * background when preloaded. One registry is shared by every game in the
+ * process, so restarting a game or opening it for editing loads nothing.
+ */
+public class AudioAssetRegistry {
+
+	private static final long MAX_CLIP_BYTES = 256 * 1024;
+	private static final AudioAssetRegistry instance = new AudioAssetRegistry();
+
+	private Map<String, File> myFiles;
+	private Map<String, Boolean> myEffects;
+	private Map<String, Media> myMedia;
+	private Map<String, AudioClip> myClips;
+	private ExecutorService myLoader;
+
+	public AudioAssetRegistry() {
+		myFiles = new ConcurrentHashMap<>();
+		myEffects = new ConcurrentHashMap<>();
+		myMedia = new ConcurrentHashMap<>();
+		myClips = new ConcurrentHashMap<>();
+		myLoader = Executors.newSingleThreadExecutor(task -> {
+			Thread thread = new Thread(task, "audio-loader");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Provides the registry shared by every game
+	 */
+	public static AudioAssetRegistry getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Records every file in a directory under its file name
+	 *
+	 * @param folder
+	 *            The directory to index
+	 * @param effects
+	 *            Whether the files are sound effects, whose short files are
+	 *            decoded into memory when loaded
+	 */
+	public void registerDirectory(File folder, boolean effects) {
+		File[] files = folder.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			register(file.getName(), file, effects);
+		}
+	}
+
+	/**
+	 * Records a sound file under a key. A file registered again under the
+	 * same key is not reloaded.
+	 *
+	 * @param key
+	 *            The name the sound is played by
+	 * @param file
+	 *            The sound file
+	 * @param effect
+	 *            Whether the file is a sound effect
+	 */
+	public void register(String key, File file, boolean effect) {
+		myEffects.put(key, effect && file.length() <= MAX_CLIP_BYTES);
+		File previous = myFiles.put(key, file);
+		if (previous != null && !previous.equals(file)) {
+			myMedia.remove(key);
+			myClips.remove(key);
+		}
+	}
+
+	public boolean contains(String key) {
+		return key != null && myFiles.containsKey(key);
+	}
+
+	/**
+	 * Provides the Media of a registered sound, creating it on first use
+	 *
+	 * @param key
+	 *            The sound's name
+	 * @return The sound's Media, or null if it is not registered
+	 */
+	public Media getMedia(String key) {
+		if (!contains(key)) {
+			return null;
+		}
+		return myMedia.computeIfAbsent(key, name -> new Media(myFiles.get(name).toURI().toString()));
+	}
+
+	/**
+	 * Provides the pre-decoded clip of a short sound effect, decoding it on
+	 * first use
+	 *
+	 * @param key
+	 *            The sound's name
+	 * @return The sound's AudioClip, or null if it is not a short sound effect
+	 */
+	public AudioClip getClip(String key) {
+		if (!contains(key) || !myEffects.get(key)) {
+			return null;
+		}
+		return myClips.computeIfAbsent(key, name -> new AudioClip(myFiles.get(name).toURI().toString()));
+	}
+
+	/**
+	 * Loads the given sounds on a background thread. Names that are not
+	 * registered are ignored.
+	 *
+	 * @param keys
+	 *            The names of the sounds to load
+	 */
+	public void preload(Collection<String> keys) {
+		for (String key : keys) {
+			if (contains(key) && !isLoaded(key)) {
+				myLoader.execute(() -> {
+					getMedia(key);
+					getClip(key);
+				});
+			}
+		}
+	}
+
+	public boolean isLoaded(String key) {
+		return myMedia.containsKey(key) && (!myEffects.get(key) || myClips.containsKey(key));
+	}
+
+	public int getLoadedCount() {
+		return myMedia.size();
+	}
+}
@@ -2,14 +2,12 @@ package gameengine.controller;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Observable;
-import java.util.Observer;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import com.thoughtworks.xstream.annotations.XStreamOmitField;
 
@@ -17,15 +15,16 @@ import gameengine.model.Actor;
 import gameengine.model.ActorState;
 import gameengine.model.AttributeType;
 import gameengine.model.CollisionDetection;
+import gameengine.model.GameEventBus;
+import gameengine.model.GameEventType;
 import gameengine.model.IGameElement;
+import gameengine.model.ImageCache;
 import gameengine.model.IPlayActor;
+import gameengine.model.KinematicsStore;
 import gameengine.model.PhysicsEngine;
+import gameengine.model.TriggerIndex;
 import gameengine.model.Triggers.ITrigger;
 import gameengine.model.Triggers.TickTrigger;
-import javafx.animation.Animation.Status;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
 import voogasalad.util.hud.source.Property;
 
 /**
@@ -35,21 +34,35 @@ import voogasalad.util.hud.source.Property;
  *
  */
 
-public class Game extends Observable implements Observer, IGame, IPlayGame {
+public class Game extends Observable implements IGame, IPlayGame {
 	public static final int SIZE = 400;
 	public static final int FRAMES_PER_SECOND = 50;
-	private static final int MILLISECOND_DELAY = 1000 / FRAMES_PER_SECOND;
 	private static final int BACKGROUND_SCROLL_SPEED = -1;
 
 	private String initialGameFile;
 	private List<Level> levels;
 	private GameInfo info;
+	@XStreamOmitField
 	private PhysicsEngine myPhysicsEngine;
+	@XStreamOmitField
 	private CollisionDetection myCollisionDetector;
-	private Map<String, Set<IGameElement>> activeTriggers;
 	@XStreamOmitField
-	private Timeline animation;
+	private TriggerIndex myTriggerIndex;
+	@XStreamOmitField
+	private int lastFrameTriggerMutations;
+	@XStreamOmitField
+	private KinematicsStore myKinematics;
+	@XStreamOmitField
+	private ForkJoinPool myPool;
+	@XStreamOmitField
+	private IGameClock myClock;
+	@XStreamOmitField
+	private GameEventBus myEventBus;
+	@XStreamOmitField
+	private int lastFrameEvents;
+	@XStreamOmitField
 	private List<IPlayActor> currentActors;
+	@XStreamOmitField
 	private List<IPlayActor> deadActors;
 	private Property<Integer> levelTime = new Property<>(1, "Time This Level");
 	private Property<Integer> globalTime = new Property<>(1, "Global Time");
@@ -58,7 +71,10 @@ public class Game extends Observable implements Observer, IGame, IPlayGame {
 	private SoundPlayer soundEngine;
 	private boolean sfxOff = false;
 	private boolean musicOff = false;
+	@XStreamOmitField
 	private List<IPlayActor> actorsToAdd;
+	@XStreamOmitField
+	private LevelPreloader myPreloader;
 
 
 	public Game(String initialGameFile, 
@@ -67,7 +83,7 @@ public class Game extends Observable implements Observer, IGame, IPlayGame {
 			PhysicsEngine myPhysicsEngine,
 			CollisionDetection myCollisionDetector, 
 			Map<String, Set<IGameElement>> activeTriggers,
-			Timeline animation, 
+			IGameClock clock, 
 			List<IPlayActor> currentActors, 
 			List<IPlayActor> deadActors,
 			int levelTime, int globalTime) {
@@ -77,6 +93,7 @@ public class Game extends Observable implements Observer, IGame, IPlayGame {
 		actorsToAdd = new ArrayList<IPlayActor>();
 		myPhysicsEngine = new PhysicsEngine();
 		myCollisionDetector = new CollisionDetection(myPhysicsEngine);
+		setPool(myPool);
 		this.levelTime.setValue(levelTime);
 		this.globalTime.setValue(globalTime);
 		initSoundEngine();
@@ -105,6 +122,10 @@ public class Game extends Observable implements Observer, IGame, IPlayGame {
 		actorsToAdd = new ArrayList<IPlayActor>();
 		myPhysicsEngine = new PhysicsEngine();
 		myCollisionDetector = new CollisionDetection(myPhysicsEngine);
+		myTriggerIndex = new TriggerIndex();
+		myKinematics = new KinematicsStore();
+		myEventBus = new GameEventBus();
+		setPool(ForkJoinPool.commonPool());
 		initTimeline();
 		initSoundEngine();
 	}
@@ -113,16 +134,17 @@ public class Game extends Observable implements Observer, IGame, IPlayGame {
 	 * Initializes a timeline that will be used for the game loop
 	 */
 	public void initTimeline() {
-		KeyFrame frame = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> step());
-		setAnimation(new Timeline());
-		getAnimation().setCycleCount(Timeline.INDEFINITE);
-		getAnimation().getKeyFrames().add(frame);
-
+		setClock(new TimelineClock(FRAMES_PER_SECOND));
 	}
 
+	/**
+	 * Creates the SoundPlayer over the shared AudioAssetRegistry. This only
+	 * indexes the sound directories; sounds are loaded when a level that uses
+	 * them starts.
+	 */
 	public void initSoundEngine() {
-		soundEngine = new SoundPlayer();
-		soundEngine.loadMultipleSoundFilesFromDir(new File("./authoringsounds"));
+		soundEngine = new SoundPlayer(AudioAssetRegistry.getInstance());
+		soundEngine.loadSoundEffectsFromDir(new File("./authoringsounds"));
 		soundEngine.loadMultipleSoundFilesFromDir(new File("./authoringmusic"));
 	}
 
@@ -130,10 +152,23 @@ public class Game extends Observable implements Observer, IGame, IPlayGame {
 		togglePause();
 	}
 
-	private void togglePause() {
-		animation.pause();
+	/**
+	 * Stops the Game for good and releases its soundtrack and sound effect
+	 * voices. The Game cannot be played again afterwards.
+	 */
+	public void dispose() {
+		if (myClock != null) {
+			myClock.stop();
+		}
 		if (soundEngine != null) {
-			soundEngine.allSetMute(true);
+			soundEngine.dispose();
+		}
+	}
+
+	private void togglePause() {
+		myClock.pause();
+		if (getSoundEngine() != null) {
+			getSoundEngine().allSetMute(true);
 		}
 	}
 
@@ -146,20 +181,55 @@ public class Game extends Observable implements Observer, IGame, IPlayGame {
 	}
 
 	/**
-	 * Starts the game
+	 * Starts the game. A headless Game plays no sound.
 	 */
 
 	public void startGame() {
 		initCurrentLevel();
+		ImageCache.preload(getCurrentLevel().getImageNames());
 		initCurrentActors();
+		refreshTriggerIndex();
 		toggleUnPause();
-		if (soundEngine != null) {
-			soundEngine.setSoundtrack(levels.get(info.getMyCurrentLevelNum()).getSoundtrack());
+		if (getSoundEngine() != null) {
+			getSoundEngine().preload(getCurrentLevel().getSoundNames());
+			getSoundEngine().setSoundtrack(levels.get(info.getMyCurrentLevelNum()).getSoundtrack());
 		}
+		int next = info.getMyCurrentLevelNum() + 1;
+		if (next < levels.size()) {
+			getPreloader().prepare(levels, next, getSoundEngine());
+		}
+	}
+
+	/**
+	 * States whether the Game runs without a screen, on a HeadlessClock
+	 */
+	private boolean isHeadless() {
+		return myClock instanceof HeadlessClock;
+	}
+
+	/**
+	 * Provides the SoundPlayer, unless the Game is headless, where creating
+	 * MediaPlayers would need a media stack that may not be there
+	 *
+	 * @return The Game's SoundPlayer, or null if the Game plays no sound
+	 */
+	private SoundPlayer getSoundEngine() {
+		return isHeadless() ? null : soundEngine;
+	}
+
+	/**
+	 * Provides the preloader that prepares the next Level while the current
+	 * one is playing
+	 */
+	private LevelPreloader getPreloader() {
+		if (myPreloader == null) {
+			myPreloader = new LevelPreloader();
+		}
+		return myPreloader;
 	}
 
 	public void toggleUnPause() {
-		animation.play();
+		myClock.play();
 		toggleSoundPause();
 	}
 
@@ -168,38 +238,42 @@ public class Game extends Observable implements Observer, IGame, IPlayGame {
 	}
 
 	private void initCurrentLevel() {
-		getCurrentLevel().addObserver(this);
 		initGameElement(getCurrentLevel());
 	}
 
 	/**
-	 * Initializes the current actors
+	 * Initializes the current actors. A headless Game has no GameScreen to
+	 * restore the ImageViews of actors that were loaded, so it restores them
+	 * itself.
 	 */
 	public void initCurrentActors() {
 		currentActors = getCurrentLevel().getActors();
 		for (IPlayActor actor : currentActors) {
-			((Observable) actor).addObserver(this);
+			if (isHeadless()) {
+				((Actor) actor).restoreUnpreparedImageView();
+			}
 			initGameElement(actor);
 			actor.setPhysicsEngine(myPhysicsEngine);
+			actor.attachKinematics(myKinematics);
 			actor.setVisibility();
 		}
 	}
 
 	private void step() {
-		refreshTriggerMap();
 		myCollisionDetector.detection(getCurrentActors());
 		signalTick();
+		myPhysicsEngine.integrate(myKinematics);
 		if(info.isDestinationGame())
 			updateCamera();
 		updateActors();
 		levelTime.setValue(levelTime.getValue() + 1);
 		globalTime.setValue(globalTime.getValue() + 1);
+		lastFrameTriggerMutations = myTriggerIndex.resetMutationCount();
+		lastFrameEvents = myEventBus.resetEventCount();
 	}
 
 	private void updateCamera() {
-		setChanged();
-		Object[] args = { "updateCamera" };
-		notifyObservers(Arrays.asList(args));
+		myEventBus.publish(GameEventType.UPDATE_CAMERA);
 	}
 
 	private void signalTick() {
@@ -249,6 +323,17 @@ public class Game extends Observable implements Observer, IGame, IPlayGame {
 		this.info = info;
 	}
 
+	/**
+	 * Reads back the actor map of a Game loaded with lazily read Levels, which
+	 * the authoring environment needs once the Game is saved. Every Level is
+	 * read.
+	 */
+	public void restoreActorMap() {
+		if (info.getActorMap() == null && levels instanceof ILazyLevelList) {
+			info.setActorMap(((ILazyLevelList) levels).readActorMap());
+		}
+	}
+
 	/**
 	 * Sets the Game's Levels
 	 *
@@ -269,14 +354,25 @@ public class Game extends Observable implements Observer, IGame, IPlayGame {
 	}
 
 	/**
-	 * Changes the Game to the next Level
+	 * Changes the Game to the next Level, which has usually been prepared
+	 * while the current one was playing. A finished Level that was read
+	 * lazily is released.
 	 */
 
 	public boolean nextLevel() {
-		animation.stop();
+		myClock.stop();
 		if (info.getMyCurrentLevelNum() + 1 < levels.size()) {
-			setCurrentLevel(info.getMyCurrentLevelNum() + 1);
-			levels.get(info.getMyCurrentLevelNum()).getActors().forEach(actor -> ((Actor) actor).restoreImageView());
+			getCurrentLevel().setTriggerIndex(null);
+			getCurrentLevel().setEventBus(null);
+			getActors().forEach(actor -> actor.setTriggerIndex(null));
+			getActors().forEach(actor -> actor.setEventBus(null));
+			getActors().forEach(actor -> actor.detachKinematics());
+			int finished = info.getMyCurrentLevelNum();
+			setCurrentLevel(finished + 1);
+			getPreloader().awaitPrepared(levels, finished + 1, getSoundEngine());
+			if (levels instanceof ILazyLevelList) {
+				((ILazyLevelList) levels).release(finished);
+			}
 			levels.get(info.getMyCurrentLevelNum()).getMainCharacters().forEach(actor -> actor.setX(0));
 			return true;
 		} else {
@@ -292,40 +388,51 @@ public class Game extends Observable implements Observer, IGame, IPlayGame {
 	 *            the trigger received from the game player
 	 */
 	public void handleTrigger(ITrigger myTrigger) {
-		if (activeTriggers.get(myTrigger.getMyKey()) != null) {
-			for (IGameElement gameElement : activeTriggers.get(myTrigger.getMyKey())) {
-				gameElement.handleTrigger(myTrigger);
-			}
-		}
+		myTriggerIndex.dispatch(myTrigger);
 	}
 
-	private void refreshTriggerMap() {
-		activeTriggers = new HashMap<String, Set<IGameElement>>();
-		List<IGameElement> activeGameElements = new ArrayList<IGameElement>(
-				Arrays.asList(new IGameElement[] { getCurrentLevel() }));
-		activeGameElements.addAll(getActors());
-		for (IGameElement gameElement : activeGameElements) {
-			for (String trigger : gameElement.getRules().keySet()) {
-				if (!activeTriggers.containsKey(trigger)) {
-					activeTriggers.put(trigger, new HashSet<IGameElement>());
-				}
-				activeTriggers.get(trigger).add(gameElement);
-			}
+	/**
+	 * Rebuilds the trigger index from the current level and its actors. This
+	 * only happens when a level starts; afterwards the index is kept up to date
+	 * as actors are added and removed and as their rules change.
+	 */
+	private void refreshTriggerIndex() {
+		myTriggerIndex.clear();
+		indexGameElement(getCurrentLevel());
+		for (IPlayActor actor : getCurrentActors()) {
+			indexGameElement(actor);
 		}
 	}
 
+	private void indexGameElement(IGameElement gameElement) {
+		gameElement.setTriggerIndex(myTriggerIndex);
+		gameElement.setEventBus(myEventBus);
+		myTriggerIndex.addElement(gameElement);
+	}
+
+	private void unindexGameElement(IGameElement gameElement) {
+		myTriggerIndex.removeElement(gameElement);
+		gameElement.setTriggerIndex(null);
+		gameElement.setEventBus(null);
+	}
+
+	/**
+	 * Provides the bus that the game's elements publish events on for the game
+	 * player
+	 *
+	 * @return The game's event bus
+	 */
+	public GameEventBus getEventBus() {
+		return myEventBus;
+	}
+
 	/**
-	 * Carries out the appropriate procedure when notified by an observed object
-	 * 
-	 * @param o
-	 *            The Observable object that is being observed
-	 * @param arg
-	 *            Arguments that the Observable object passes
+	 * Provides the number of events published during the last step
+	 *
+	 * @return The number of events published
 	 */
-	@Override
-	public void update(Observable o, Object arg) {
-		setChanged();
-		notifyObservers(arg);
+	public int getLastFrameEventCount() {
+		return lastFrameEvents;
 	}
 
 	public List<IPlayActor> getActors() {
@@ -353,37 +460,53 @@ public class Game extends Observable implements Observer, IGame, IPlayGame {
 	}
 
 
+	/**
+	 * Removes the Actors that died this step and inserts the ones added
+	 * during it, then notifies observers once so that the screen can apply
+	 * both changes in a single batch
+	 */
 	public void updateActors() {
-		deadActors = new ArrayList<IPlayActor>();
-		for (IPlayActor a : getCurrentActors()) {
-			if (a.checkState(ActorState.DEAD)) {
-				deadActors.add(a);
-			}
+		deadActors.addAll(getCurrentLevel().getActors(ActorState.DEAD));
+		if (deadActors.isEmpty() && actorsToAdd.isEmpty()) {
+			return;
 		}
-		if (deadActors.size() != 0) {
-			removeDeadActors();
+		for (IPlayActor actor : deadActors) {
+			unindexGameElement(actor);
+			actor.detachKinematics();
+		}
+		getCurrentLevel().removeActors(deadActors);
+		getCurrentLevel().addActors(actorsToAdd);
+		for (IPlayActor actor : actorsToAdd) {
+			indexGameElement(actor);
+			actor.attachKinematics(myKinematics);
 		}
-		getCurrentLevel().getActors().addAll(actorsToAdd);
-		actorsToAdd.clear();
 		currentActors = getCurrentLevel().getActors();
+		myEventBus.publish(GameEventType.UPDATE_ACTORS);
+		for (IPlayActor actor : deadActors) {
+			actor.recycle();
+		}
+		deadActors.clear();
+		actorsToAdd.clear();
 	}
 
-
 	/**
-	 * Calls for the removal of dead Actors
+	 * Provides the Actors removed from the current Level this step
+	 *
+	 * @return The Actors removed this step
 	 */
-	private void removeDeadActors() {
-		setChanged();
-		Object[] args = { "updateActors" };
-		notifyObservers(Arrays.asList(args));
-		getCurrentLevel().removeActors(deadActors);
-		deadActors.clear();
-	}
-
 	public List<IPlayActor> getDeadActors() {
 		return deadActors;
 	}
 
+	/**
+	 * Provides the Actors inserted into the current Level this step
+	 *
+	 * @return The Actors added this step
+	 */
+	public List<IPlayActor> getAddedActors() {
+		return actorsToAdd;
+	}
+
 	public void addActor(Actor newActor) {
 		newActor.setPhysicsEngine(myPhysicsEngine);
 		actorsToAdd.add(newActor);
@@ -416,25 +539,49 @@ public class Game extends Observable implements Observer, IGame, IPlayGame {
 	 */
 	public void setMyPhysicsEngine(PhysicsEngine myPhysicsEngine) {
 		this.myPhysicsEngine = myPhysicsEngine;
+		myPhysicsEngine.setPool(myPool);
+	}
+
+	/**
+	 * Sets how many threads physics integration and collision detection may
+	 * use on large levels. Results are identical for any number of threads.
+	 *
+	 * @param threads
+	 *            The number of threads, or 1 to run everything on the thread
+	 *            that steps the Game
+	 */
+	public void setParallelism(int threads) {
+		if (myPool != null && myPool != ForkJoinPool.commonPool()) {
+			myPool.shutdown();
+		}
+		setPool(threads > 1 ? new ForkJoinPool(threads) : null);
+	}
+
+	private void setPool(ForkJoinPool pool) {
+		myPool = pool;
+		myPhysicsEngine.setPool(pool);
+		myCollisionDetector.setPool(pool);
 	}
 
 	/**
-	 * Provides the Game's Timeline
+	 * Provides the clock that drives the Game's loop
 	 *
-	 * @return The Game's Timeline
+	 * @return The Game's clock
 	 */
-	public Timeline getAnimation() {
-		return animation;
+	public IGameClock getClock() {
+		return myClock;
 	}
 
 	/**
-	 * Sets the Game's Timeline
+	 * Sets the clock that drives the Game's loop, such as a HeadlessClock for
+	 * running without JavaFX
 	 *
-	 * @param animation
-	 *            The desired Timeline
+	 * @param clock
+	 *            The desired clock
 	 */
-	public void setAnimation(Timeline animation) {
-		this.animation = animation;
+	public void setClock(IGameClock clock) {
+		myClock = clock;
+		myClock.setStep(this::step);
 	}
 
 	public List<Integer> getScores() {
@@ -461,11 +608,20 @@ public class Game extends Observable implements Observer, IGame, IPlayGame {
 	}
 
 	public Map<String, Set<IGameElement>> getActiveTriggers() {
-		return activeTriggers;
+		if (myTriggerIndex == null) {
+			return Collections.emptyMap();
+		}
+		return myTriggerIndex.getTriggerMap();
 	}
 
-	public void setActiveTriggers(Map<String, Set<IGameElement>> activeTriggers) {
-		this.activeTriggers = activeTriggers;
+	/**
+	 * Provides the number of times the trigger index changed during the last
+	 * frame. A level whose actors and rules are not changing reports zero.
+	 *
+	 * @return The number of trigger index mutations in the last frame
+	 */
+	public int getLastFrameTriggerMutations() {
+		return lastFrameTriggerMutations;
 	}
 
 	public int getLevelTime() {
@@ -497,30 +653,35 @@ public class Game extends Observable implements Observer, IGame, IPlayGame {
 	public void toggleMusic() {
 		if (!isPaused()) {
 			musicOff = !musicOff;
-			soundEngine.soundtrackSetMute(musicOff);
+			if (getSoundEngine() != null) {
+				getSoundEngine().soundtrackSetMute(musicOff);
+			}
 		}
 	}
 
 	public void toggleSoundPause() {
+		if (getSoundEngine() == null) {
+			return;
+		}
 		try {
 			if (isPaused()) {
-				soundEngine.allSetMute(true);
+				getSoundEngine().allSetMute(true);
 			} else {
-				soundEngine.soundtrackSetMute(musicOff);
-				soundEngine.allSoundsSetMute(sfxOff);
+				getSoundEngine().soundtrackSetMute(musicOff);
+				getSoundEngine().allSoundsSetMute(sfxOff);
 			}
 		} catch (Exception e) {
 		}
 	}
 
 	public void playSound(String key) {
-		if (!sfxOff) {
-			soundEngine.playSound(key);
+		if (!sfxOff && getSoundEngine() != null) {
+			getSoundEngine().playSound(key);
 		}
 	}
 
 	public boolean isPaused() {
-		return animation.getStatus() == Status.PAUSED;
+		return myClock.isPaused();
 	}
 
 	public Property<Integer> getGlobalTimeProperty() {
@@ -6,8 +6,10 @@ import java.util.Map;
 
 import com.thoughtworks.xstream.annotations.XStreamOmitField;
 
+import authoringenvironment.model.EditClock;
 import authoringenvironment.model.IAuthoringActor;
 import authoringenvironment.model.IEditableGameElement;
+import gameengine.model.ImageCache;
 import javafx.scene.image.ImageView;
 
 /**
@@ -35,13 +37,15 @@ public class GameInfo implements IEditableGameElement {
 	private Map<IAuthoringActor, List<IAuthoringActor>> myActorMap;
 	private String myHUDFileLocation;
 	private String soundtrack;
+	@XStreamOmitField
+	private long myEditVersion;
 
 	public GameInfo(String name, String imageName, String description, int currentLevelNum, String file) {
 		this.setName(name);
 		this.setMyImageName(imageName);
 		this.setMyDescription(description);
 		this.setMyCurrentLevelNum(currentLevelNum);
-		this.setImageView(new ImageView(DEFAULT_IMAGE_NAME));
+		this.setImageView(new ImageView(ImageCache.getImage(DEFAULT_IMAGE_NAME)));
 		this.setIsDestinationGame(true);
 		this.myHUDElementsToDisplay = new ArrayList<String>();
 		this.myFile = file;
@@ -78,6 +82,7 @@ public class GameInfo implements IEditableGameElement {
 	 */
 	@Override
 	public void setName(String myName) {
+		markEdited();
 		this.myName = myName;
 	}
 
@@ -87,6 +92,7 @@ public class GameInfo implements IEditableGameElement {
 	 * @param options
 	 */
 	public void setMyHUDOptions(List<String> options) {
+		markEdited();
 		myHUDElementsToDisplay = options;
 	}
 
@@ -115,6 +121,7 @@ public class GameInfo implements IEditableGameElement {
 	 * @param myImageName
 	 */
 	public void setMyImageName(String myImageName) {
+		markEdited();
 		this.myImageName = myImageName;
 	}
 
@@ -133,6 +140,7 @@ public class GameInfo implements IEditableGameElement {
 	 * @param myDescription
 	 */
 	public void setMyDescription(String myDescription) {
+		markEdited();
 		this.myDescription = myDescription;
 	}
 
@@ -209,6 +217,7 @@ public class GameInfo implements IEditableGameElement {
 	}
 	
 	public void setHUDFileLocation(String name) {
+		markEdited();
 		this.myHUDFileLocation = name;
 	}
 	
@@ -235,6 +244,7 @@ public class GameInfo implements IEditableGameElement {
 	 *            scrolling
 	 */
 	public void setIsDestinationGame(boolean isDestinationGame) {
+		markEdited();
 		this.isDestinationGame = isDestinationGame;
 	}
 
@@ -248,12 +258,23 @@ public class GameInfo implements IEditableGameElement {
 	}
 	
 	public void setSoundtrack(String soundtrack) {
+		markEdited();
 		this.soundtrack = soundtrack;
 	}
 	
 	public String getSoundtrack() {
 		return soundtrack;
 	}
+
+	@Override
+	public void markEdited() {
+		myEditVersion = EditClock.tick();
+	}
+
+	@Override
+	public long getEditVersion() {
+		return myEditVersion;
+	}
 	
 	
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+package gameengine.controller;
+
+/**
+ * Drives the game loop without JavaFX. Steps can be run synchronously with
+ * advance, or on a background thread after play. The background thread either
+ * runs as fast as possible or at a fixed number of frames per second, in which
+ * case it catches up on missed frames rather than stretching the timestep.
+ */
+public class HeadlessClock implements IGameClock {
+
+	private static final long NANOS_PER_SECOND = 1000000000L;
+	private static final long NANOS_PER_MILLI = 1000000L;
+
+	private enum State {
+		STOPPED, RUNNING, PAUSED
+	}
+
+	private final long myFramePeriod;
+	private Runnable myStep;
+	private volatile State myState;
+	private Thread myThread;
+	private long myStepCount;
+
+	/**
+	 * Creates a clock that steps as fast as possible
+	 */
+	public HeadlessClock() {
+		this(0);
+	}
+
+	/**
+	 * Creates a clock that steps at a fixed rate
+	 *
+	 * @param framesPerSecond
+	 *            The number of steps per second, or 0 to step as fast as
+	 *            possible
+	 */
+	public HeadlessClock(int framesPerSecond) {
+		myFramePeriod = framesPerSecond > 0 ? NANOS_PER_SECOND / framesPerSecond : 0;
+		myState = State.STOPPED;
+	}
+
+	@Override
+	public void setStep(Runnable step) {
+		myStep = step;
+	}
+
+	/**
+	 * Runs the given number of steps on the calling thread, ignoring the frame
+	 * rate. Intended for tests and benchmarks while the clock is not playing.
+	 *
+	 * @param steps
+	 *            The number of steps to run
+	 */
+	public void advance(long steps) {
+		for (long i = 0; i < steps; i++) {
+			runStep();
+		}
+	}
+
+	@Override
+	public synchronized void play() {
+		myState = State.RUNNING;
+		if (myThread == null) {
+			myThread = new Thread(this::loop, "HeadlessClock");
+			myThread.setDaemon(true);
+			myThread.start();
+		}
+		notifyAll();
+	}
+
+	@Override
+	public synchronized void pause() {
+		if (myState == State.RUNNING) {
+			myState = State.PAUSED;
+		}
+	}
+
+	@Override
+	public synchronized void stop() {
+		myState = State.STOPPED;
+		notifyAll();
+	}
+
+	@Override
+	public boolean isPaused() {
+		return myState == State.PAUSED;
+	}
+
+	/**
+	 * Waits for the background thread to finish after stop has been called
+	 *
+	 * @throws InterruptedException
+	 */
+	public void join() throws InterruptedException {
+		Thread thread;
+		synchronized (this) {
+			thread = myThread;
+		}
+		if (thread != null) {
+			thread.join();
+		}
+	}
+
+	/**
+	 * Provides the number of steps run since the clock was created
+	 *
+	 * @return The number of steps run
+	 */
+	public synchronized long getStepCount() {
+		return myStepCount;
+	}
+
+	private void loop() {
+		long nextFrame = System.nanoTime();
+		while (true) {
+			synchronized (this) {
+				if (myState == State.PAUSED) {
+					awaitResume();
+					nextFrame = System.nanoTime();
+				}
+				if (myState == State.STOPPED) {
+					myThread = null;
+					return;
+				}
+			}
+			runStep();
+			if (myFramePeriod > 0) {
+				nextFrame += myFramePeriod;
+				long delay = nextFrame - System.nanoTime();
+				if (delay > 0) {
+					sleep(delay);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Blocks while the clock is paused. Must be called holding the clock's lock.
+	 */
+	private void awaitResume() {
+		while (myState == State.PAUSED) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				myState = State.STOPPED;
+			}
+		}
+	}
+
+	private synchronized void runStep() {
+		myStep.run();
+		myStepCount++;
+	}
+
+	private void sleep(long nanos) {
+		try {
+			Thread.sleep(nanos / NANOS_PER_MILLI, (int) (nanos % NANOS_PER_MILLI));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
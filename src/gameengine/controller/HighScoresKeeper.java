@@ -1,14 +1,22 @@
 package gameengine.controller;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Observable;
 import java.util.TreeMap;
 
+import com.thoughtworks.xstream.annotations.XStreamOmitField;
+
 public class HighScoresKeeper extends Observable implements IHighScoresKeeper {
 
 	private Map<String, Map<String, Integer>> myScores;
+	private Map<String, List<ScoreEntry>> myEntries;
+	private long myNextSequence;
+	@XStreamOmitField
+	private Map<String, Leaderboard> myLeaderboards;
 
 	public HighScoresKeeper() {
 		setMyScores(new HashMap<>());
@@ -20,12 +28,16 @@ public class HighScoresKeeper extends Observable implements IHighScoresKeeper {
 
 	public void clearGameScores(String gameIdentifier) {
 		myScores.put(gameIdentifier, new TreeMap<>());
+		getEntries().remove(gameIdentifier);
+		myNextSequence++;
+		getLeaderboards().remove(gameIdentifier);
 		setChanged();
 		Object[] methodArg = {"updateScores", null};
 		notifyObservers(Arrays.asList(methodArg));
 	}
 
 	public void addScore(String gameIdentifier, String player, int score) {
+		List<ScoreEntry> entries = getEntries().computeIfAbsent(gameIdentifier, game -> new ArrayList<>());
 		Map<String, Integer> gameScores;
 		if (getMyScores().keySet().contains(gameIdentifier)) {
 			gameScores = getMyScores().get(gameIdentifier);
@@ -42,18 +54,93 @@ public class HighScoresKeeper extends Observable implements IHighScoresKeeper {
 		}
 
 		getMyScores().put(gameIdentifier, gameScores);
+		ScoreEntry entry = new ScoreEntry(player, score, myNextSequence++);
+		entries.add(entry);
+		Leaderboard leaderboard = getLeaderboards().get(gameIdentifier);
+		if (leaderboard != null) {
+			leaderboard.add(entry);
+		}
+	}
+
+	/**
+	 * Provides the sequence number of the next change to the scores. Every
+	 * score added and every game cleared takes the next number, so the number
+	 * tells which changes the scores already hold.
+	 * 
+	 * @return The sequence number the next change will be given
+	 */
+	public long getNextSequence() {
+		getEntries();
+		return myNextSequence;
 	}
 
 	public Map<String, Integer> getGameScores(String gameIdentifier) {
 		return myScores.get(gameIdentifier);
 	}
 
+	@Override
+	public List<ScoreEntry> getTopScores(String gameIdentifier, int count) {
+		return getLeaderboard(gameIdentifier).getTop(count);
+	}
+
+	@Override
+	public List<ScoreEntry> getScores(String gameIdentifier, int fromRank, int count) {
+		return getLeaderboard(gameIdentifier).getRange(fromRank, count);
+	}
+
+	@Override
+	public int getRank(String gameIdentifier, String player) {
+		return getLeaderboard(gameIdentifier).getRank(player);
+	}
+
+	@Override
+	public int getScoreCount(String gameIdentifier) {
+		return getLeaderboard(gameIdentifier).size();
+	}
+
 	public Map<String, Map<String, Integer>> getMyScores() {
 		return myScores;
 	}
 
 	public void setMyScores(Map<String, Map<String, Integer>> myScores) {
 		this.myScores = myScores;
+		myEntries = null;
+		myLeaderboards = null;
+	}
+
+	/**
+	 * Provides every score entry by game. Scores kept before entries were,
+	 * one best score per player, become one entry each.
+	 */
+	private Map<String, List<ScoreEntry>> getEntries() {
+		if (myEntries == null) {
+			myEntries = new HashMap<>();
+			myScores.forEach((game, scores) -> {
+				List<ScoreEntry> entries = new ArrayList<>();
+				scores.forEach((player, score) -> entries.add(new ScoreEntry(player, score, myNextSequence++)));
+				myEntries.put(game, entries);
+			});
+		}
+		return myEntries;
+	}
+
+	private Map<String, Leaderboard> getLeaderboards() {
+		if (myLeaderboards == null) {
+			myLeaderboards = new HashMap<>();
+		}
+		return myLeaderboards;
+	}
+
+	/**
+	 * Provides a game's ranking, which is built from its entries the first
+	 * time it is asked for
+	 */
+	private Leaderboard getLeaderboard(String gameIdentifier) {
+		return getLeaderboards().computeIfAbsent(gameIdentifier, game -> {
+			Leaderboard leaderboard = new Leaderboard();
+			getEntries().getOrDefault(game, new ArrayList<>()).forEach(leaderboard::add);
+			return leaderboard;
+		});
 	}
 
-}
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package gameengine.controller;
 import java.util.List;
 
 import gameengine.model.Actor;
+import gameengine.model.GameEventBus;
 import gameengine.model.IPlayActor;
 import gameengine.model.Triggers.ITrigger;
 
@@ -42,12 +43,28 @@ public interface IGame {
 
 	public void stopGame();
 
+	/**
+	 * Stops the Game for good and releases its sounds, once it will not be
+	 * played again
+	 */
+	public void dispose();
+
+	/**
+	 * Gives a Game whose Levels are read lazily back the actor map that was
+	 * left out when it was loaded, so that the Game can be saved whole
+	 */
+	public void restoreActorMap();
+
 	public boolean nextLevel();
 
 	public void resetLevelTime();
 
 	public List<IPlayActor> getDeadActors();
 
+	public List<IPlayActor> getAddedActors();
+
+	public GameEventBus getEventBus();
+
 	public void addActor(Actor a);
 
 	public void toggleUnPause();
@@ -0,0 +1,40 @@
+package gameengine.controller;
+
+/**
+ * This interface defines what drives the game loop. A clock calls the step it
+ * is given once per frame while it is playing, which lets the Game run on the
+ * JavaFX animation timer during play or without a toolkit in tests and
+ * benchmarks.
+ */
+public interface IGameClock {
+
+	/**
+	 * Sets the work to be done once per frame
+	 *
+	 * @param step
+	 *            The Game's step
+	 */
+	public void setStep(Runnable step);
+
+	/**
+	 * Starts or resumes calling the step
+	 */
+	public void play();
+
+	/**
+	 * Stops calling the step until play is called again
+	 */
+	public void pause();
+
+	/**
+	 * Stops calling the step
+	 */
+	public void stop();
+
+	/**
+	 * States whether the clock has been paused
+	 *
+	 * @return True if the clock is paused
+	 */
+	public boolean isPaused();
+}
@@ -1,5 +1,6 @@
 package gameengine.controller;
 
+import java.util.List;
 import java.util.Map;
 
 public interface IHighScoresKeeper {
@@ -7,4 +8,26 @@ public interface IHighScoresKeeper {
 	Map<String, Integer> getGameScores(String myGameName);
 
 	void clearGameScores(String gameFile);
-}
\ No newline at end of file
+
+	/**
+	 * @return The game's highest ranked score entries, best first
+	 */
+	List<ScoreEntry> getTopScores(String gameFile, int count);
+
+	/**
+	 * @return A page of the game's score entries, starting at a rank (from 1),
+	 *         best first
+	 */
+	List<ScoreEntry> getScores(String gameFile, int fromRank, int count);
+
+	/**
+	 * @return The rank (from 1) of the player's best entry in the game, or 0
+	 *         if the player has no score in it
+	 */
+	int getRank(String gameFile, String player);
+
+	/**
+	 * @return The number of score entries kept for the game
+	 */
+	int getScoreCount(String gameFile);
+}
@@ -0,0 +1,41 @@
+package gameengine.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import authoringenvironment.model.IAuthoringActor;
+
+/**
+ * This interface defines a list of a Game's Levels that reads each Level from
+ * the saved game the first time it is asked for, so that a Game only holds the
+ * Levels it has reached. A released Level is dropped, and is read again as it
+ * was saved if it is asked for again. Levels may be asked for from any thread.
+ */
+public interface ILazyLevelList extends List<Level> {
+
+	/**
+	 * Drops a Level that is no longer needed
+	 *
+	 * @param index
+	 *            The Level's index
+	 */
+	public void release(int index);
+
+	/**
+	 * States whether a Level has been read and not released since
+	 *
+	 * @param index
+	 *            The Level's index
+	 * @return True if the Level is held in memory
+	 */
+	public boolean isLoaded(int index);
+
+	/**
+	 * Reads the saved game's actor map, which a lazily read Game does not
+	 * hold: each reference actor with its copies in these Levels. Every Level
+	 * that is not held in memory is read.
+	 *
+	 * @return The actor map of the Game these Levels belong to
+	 */
+	public Map<IAuthoringActor, List<IAuthoringActor>> readActorMap();
+}
@@ -0,0 +1,191 @@
+package gameengine.controller;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Ranks a game's score entries, highest score first, in an indexable skip
+ * list. Every link records how many entries it skips, so adding an entry,
+ * finding an entry's rank and finding the entry at a rank each take O(log n)
+ * expected time, and a page of entries takes O(log n) more than its length.
+ * Ranks start at 1.
+ */
+public class Leaderboard {
+
+	private static final int MAX_LEVEL = 32;
+	private static final double PROMOTION_CHANCE = 0.25;
+
+	private Node myHead;
+	private int myLevel;
+	private int mySize;
+	private Random myRandom;
+	private Map<String, ScoreEntry> myBestEntries;
+
+	public Leaderboard() {
+		myHead = new Node(null, MAX_LEVEL);
+		myLevel = 1;
+		myRandom = new Random();
+		myBestEntries = new HashMap<>();
+	}
+
+	/**
+	 * Adds an entry to the ranking
+	 *
+	 * @param entry
+	 *            The entry to add
+	 */
+	public void add(ScoreEntry entry) {
+		Node[] update = new Node[MAX_LEVEL];
+		int[] rank = new int[MAX_LEVEL];
+		Node node = myHead;
+		for (int i = myLevel - 1; i >= 0; i--) {
+			rank[i] = i == myLevel - 1 ? 0 : rank[i + 1];
+			while (node.myNext[i] != null && compare(node.myNext[i].myEntry, entry) < 0) {
+				rank[i] += node.mySpan[i];
+				node = node.myNext[i];
+			}
+			update[i] = node;
+		}
+		int level = randomLevel();
+		if (level > myLevel) {
+			for (int i = myLevel; i < level; i++) {
+				rank[i] = 0;
+				update[i] = myHead;
+				myHead.mySpan[i] = mySize;
+			}
+			myLevel = level;
+		}
+		Node added = new Node(entry, level);
+		for (int i = 0; i < level; i++) {
+			added.myNext[i] = update[i].myNext[i];
+			update[i].myNext[i] = added;
+			added.mySpan[i] = update[i].mySpan[i] - (rank[0] - rank[i]);
+			update[i].mySpan[i] = rank[0] - rank[i] + 1;
+		}
+		for (int i = level; i < myLevel; i++) {
+			update[i].mySpan[i]++;
+		}
+		mySize++;
+		ScoreEntry best = myBestEntries.get(entry.getPlayer());
+		if (best == null || compare(entry, best) < 0) {
+			myBestEntries.put(entry.getPlayer(), entry);
+		}
+	}
+
+	/**
+	 * @return The number of entries ranked
+	 */
+	public int size() {
+		return mySize;
+	}
+
+	/**
+	 * @param player
+	 *            The player
+	 * @return The rank of the player's best entry, or 0 if the player has no
+	 *         entries
+	 */
+	public int getRank(String player) {
+		ScoreEntry best = myBestEntries.get(player);
+		return best == null ? 0 : getRank(best);
+	}
+
+	/**
+	 * @param entry
+	 *            An entry in the ranking
+	 * @return The entry's rank, or 0 if it is not in the ranking
+	 */
+	public int getRank(ScoreEntry entry) {
+		int rank = 0;
+		Node node = myHead;
+		for (int i = myLevel - 1; i >= 0; i--) {
+			while (node.myNext[i] != null && compare(node.myNext[i].myEntry, entry) <= 0) {
+				rank += node.mySpan[i];
+				node = node.myNext[i];
+			}
+			if (node.myEntry == entry) {
+				return rank;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * @param count
+	 *            The most entries to provide
+	 * @return The highest ranked entries, best first
+	 */
+	public List<ScoreEntry> getTop(int count) {
+		return getRange(1, count);
+	}
+
+	/**
+	 * Provides a page of the ranking
+	 *
+	 * @param fromRank
+	 *            The rank of the first entry to provide
+	 * @param count
+	 *            The most entries to provide
+	 * @return The entries ranked from fromRank on, best first
+	 */
+	public List<ScoreEntry> getRange(int fromRank, int count) {
+		if (fromRank < 1 || fromRank > mySize || count <= 0) {
+			return Collections.emptyList();
+		}
+		List<ScoreEntry> range = new ArrayList<>(Math.min(count, mySize - fromRank + 1));
+		for (Node node = getNode(fromRank); node != null && range.size() < count; node = node.myNext[0]) {
+			range.add(node.myEntry);
+		}
+		return range;
+	}
+
+	private Node getNode(int rank) {
+		int traversed = 0;
+		Node node = myHead;
+		for (int i = myLevel - 1; i >= 0; i--) {
+			while (node.myNext[i] != null && traversed + node.mySpan[i] <= rank) {
+				traversed += node.mySpan[i];
+				node = node.myNext[i];
+			}
+			if (traversed == rank) {
+				return node;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Orders higher scores first and, among equal scores, the one achieved
+	 * first
+	 */
+	private int compare(ScoreEntry a, ScoreEntry b) {
+		if (a.getScore() != b.getScore()) {
+			return Integer.compare(b.getScore(), a.getScore());
+		}
+		return Long.compare(a.getSequence(), b.getSequence());
+	}
+
+	private int randomLevel() {
+		int level = 1;
+		while (level < MAX_LEVEL && myRandom.nextDouble() < PROMOTION_CHANCE) {
+			level++;
+		}
+		return level;
+	}
+
+	private static class Node {
+		private ScoreEntry myEntry;
+		private Node[] myNext;
+		private int[] mySpan;
+
+		private Node(ScoreEntry entry, int level) {
+			myEntry = entry;
+			myNext = new Node[level];
+			mySpan = new int[level];
+		}
+	}
+}
@@ -2,31 +2,39 @@ package gameengine.controller;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Observable;
+import java.util.Set;
 
 import com.thoughtworks.xstream.annotations.XStreamOmitField;
 
+import authoringenvironment.model.EditClock;
 import authoringenvironment.model.IAuthoringActor;
 import authoringenvironment.model.IEditableGameElement;
 import gameengine.model.Actor;
 import gameengine.model.ActorState;
+import gameengine.model.ActorStateIndex;
 import gameengine.model.Attribute;
 import gameengine.model.AttributeManager;
 import gameengine.model.AttributeType;
+import gameengine.model.GameEventBus;
+import gameengine.model.GameEventType;
 import gameengine.model.IGameElement;
+import gameengine.model.ImageCache;
 import gameengine.model.IPlayActor;
 import gameengine.model.PhysicsEngine;
 import gameengine.model.Rule;
 import gameengine.model.RuleManager;
+import gameengine.model.TriggerIndex;
+import gameengine.model.Actions.SoundAction;
 import gameengine.model.Triggers.AttributeReached;
 import gameengine.model.Triggers.ITrigger;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.geometry.Bounds;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -58,11 +66,16 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	private DoubleProperty myBackgroundX = new SimpleDoubleProperty();
 	private RuleManager myRuleManager;
 	private AttributeManager myAttributeManager;
-	private List<IPlayActor> myMainCharacters;
+	@XStreamOmitField
+	private ActorStateIndex myStateIndex;
+	@XStreamOmitField
+	private GameEventBus myEventBus;
 	private String soundtrack;
 	private List<IPlayActor> myGarbageCollectors;
 	private IPlayGame myGame;
 	private boolean toBeDeleted;
+	@XStreamOmitField
+	private long myEditVersion;
 	
 	/**
 	 * Instantiates the triggerMap and Actor list
@@ -74,7 +87,7 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 		setName(DEFAULT_NAME);
 		myBackgroundImgName = DEFAULT_IMAGE_NAME;
 		soundtrack = DEFAULT_MUSIC;
-		setImageView(new ImageView(new Image(getClass().getClassLoader().getResourceAsStream(myBackgroundImgName))));
+		setImageView(new ImageView(ImageCache.getImage(myBackgroundImgName)));
 		myBackgroundImgHeight = myBackground.getFitHeight();
 		myScrollingDirection = DEFAULT_SCROLLING;
 		myName = DEFAULT_NAME;
@@ -82,7 +95,6 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 		myWidth = DEFAULT_WIDTH;
 		toBeDeleted = false;
 		myRuleManager = new RuleManager();
-		myMainCharacters = new ArrayList<>();
 		myGarbageCollectors = new ArrayList<>();
 	}
 
@@ -105,6 +117,7 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	 */
 	@Override
 	public void setName(String name) {
+		markEdited();
 		this.myName = name;
 	}
 
@@ -116,7 +129,29 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	 */
 	@Override
 	public void addActor(IAuthoringActor actor) {
-		getActors().add((IPlayActor)actor);
+		markEdited();
+		IPlayActor playActor = (IPlayActor) actor;
+		playActor.setLevelSlot(myActors.size());
+		myActors.add(playActor);
+		if (myStateIndex != null) {
+			myStateIndex.addActor(playActor);
+		}
+	}
+
+	/**
+	 * Appends several Actors to the Level
+	 *
+	 * @param actors
+	 *            The Actors to be added to the Level
+	 */
+	public void addActors(Collection<IPlayActor> actors) {
+		for (IPlayActor actor : actors) {
+			actor.setLevelSlot(myActors.size());
+			myActors.add(actor);
+			if (myStateIndex != null) {
+				myStateIndex.addActor(actor);
+			}
+		}
 	}
 
 	/**
@@ -160,6 +195,53 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 		return myBackgroundImgName;
 	}
 
+	/**
+	 * Provides the names of every image the Level shows when it starts: the
+	 * background and each of its Actors' Sprite images
+	 *
+	 * @return The names of the Level's images
+	 */
+	public Set<String> getImageNames() {
+		Set<String> imageNames = new LinkedHashSet<>();
+		imageNames.add(myBackgroundImgName);
+		for (IPlayActor actor : myActors) {
+			imageNames.add(((Actor) actor).getImageViewName());
+			imageNames.addAll(((Actor) actor).getSprite().getMyImages());
+		}
+		return imageNames;
+	}
+
+	/**
+	 * Provides the names of every sound the Level may play: its soundtrack
+	 * and the sound effects of its own and its Actors' SoundActions
+	 *
+	 * @return The names of the Level's sounds
+	 */
+	public Set<String> getSoundNames() {
+		Set<String> soundNames = new LinkedHashSet<>();
+		if (getSoundtrack() != null) {
+			soundNames.add(getSoundtrack());
+		}
+		addSoundNames(soundNames, getRules());
+		for (IPlayActor actor : myActors) {
+			addSoundNames(soundNames, actor.getRules());
+		}
+		return soundNames;
+	}
+
+	private void addSoundNames(Set<String> soundNames, Map<String, List<Rule>> rules) {
+		for (List<Rule> ruleList : rules.values()) {
+			for (Rule rule : ruleList) {
+				if (rule.getMyAction() instanceof SoundAction) {
+					String soundFile = ((SoundAction) rule.getMyAction()).getSoundFile();
+					if (soundFile != null) {
+						soundNames.add(soundFile);
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Sets the Level's background image
 	 *
@@ -167,10 +249,12 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	 *            The desired image filepath
 	 */
 	public void setMyBackgroundImgName(String myBackgroundImgName) {
+		markEdited();
 		this.myBackgroundImgName = myBackgroundImgName;
 	}
 
 	public void setMyBackgroundHeight(double height) {
+		markEdited();
 		myBackgroundImgHeight = height;
 	}
 	
@@ -212,6 +296,10 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	 * @param myActors	The desired Level Actors
 	 */
 	public void setMyActors(List<IPlayActor> myActors) {
+		if (myStateIndex != null) {
+			this.myActors.forEach(myStateIndex::removeActor);
+			myStateIndex = null;
+		}
 		this.myActors = myActors;
 	}
 
@@ -231,6 +319,7 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	 *            The desired Level height
 	 */
 	public void setMyHeight(double myHeight) {
+		markEdited();
 		this.myHeight = myHeight;
 	}
 
@@ -250,6 +339,7 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	 *            The desired Level width
 	 */
 	public void setMyWidth(double myWidth) {
+		markEdited();
 		this.myWidth = myWidth;
 	}
 
@@ -268,6 +358,7 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	 * @param myHUDOptions
 	 */
 	public void setMyHUDOptions(List<String> myHUDOptions) {
+		markEdited();
 		this.myHUDOptions = myHUDOptions;
 	}
 
@@ -287,11 +378,59 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	 *            The desired scrolling direction
 	 */
 	public void setMyScrollingDirection(String myScrollingDirection) {
+		markEdited();
 		this.myScrollingDirection = myScrollingDirection;
 	}
 
-	public void removeActors(List<IPlayActor> deadActors) {
-		myActors.removeAll(deadActors);
+	/**
+	 * Removes several Actors in constant time each by moving the last Actor
+	 * into each removed Actor's slot. The order of the remaining Actors is not
+	 * preserved.
+	 *
+	 * @param deadActors
+	 *            The Actors to be removed from the Level
+	 */
+	public void removeActors(Collection<IPlayActor> deadActors) {
+		for (IPlayActor actor : deadActors) {
+			int slot = findSlot(actor);
+			if (slot >= 0) {
+				IPlayActor last = myActors.remove(myActors.size() - 1);
+				if (slot < myActors.size()) {
+					myActors.set(slot, last);
+					last.setLevelSlot(slot);
+				}
+				actor.setLevelSlot(-1);
+				if (myStateIndex != null) {
+					myStateIndex.removeActor(actor);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Finds an Actor's index in the Level. Slots are not saved with the Level
+	 * and go stale if the list is changed through getActors, so they are
+	 * renumbered the first time a mismatch is found.
+	 *
+	 * @param actor
+	 *            The Actor to find
+	 * @return The Actor's index, or -1 if it is not in the Level
+	 */
+	private int findSlot(IPlayActor actor) {
+		if (!isInSlot(actor)) {
+			for (int i = 0; i < myActors.size(); i++) {
+				myActors.get(i).setLevelSlot(i);
+			}
+			if (!isInSlot(actor)) {
+				return -1;
+			}
+		}
+		return actor.getLevelSlot();
+	}
+
+	private boolean isInSlot(IPlayActor actor) {
+		int slot = actor.getLevelSlot();
+		return slot >= 0 && slot < myActors.size() && myActors.get(slot) == actor;
 	}
 
 	/**
@@ -303,6 +442,7 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	}
 
 	public void setPlayPosition(int playPosition) {
+		markEdited();
 		myPlayPosition = playPosition;
 	}
 
@@ -317,7 +457,10 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	}
 
 	public void removeActor(Actor actor) {
-		myActors.remove(actor);
+		markEdited();
+		if (myActors.remove(actor) && myStateIndex != null) {
+			myStateIndex.removeActor(actor);
+		}
 	}
 
 	public DoubleProperty getMyBackgroundX() {
@@ -339,12 +482,7 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	}
 	
 	public IPlayActor getMainCharacter() {
-		for (IPlayActor a : myActors) {
-			if (a.checkState(ActorState.MAIN)) {
-				return a;
-			}
-		}
-		return null;
+		return getStateIndex().getFirst(ActorState.MAIN);
 	}
 
 	/**
@@ -353,13 +491,32 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	 * @return: a List of the Level's main characters
 	 */
 	public List<IPlayActor> getMainCharacters() {
-		myMainCharacters.clear();
-		for (IPlayActor a : myActors) {
-			if (a.checkState(ActorState.MAIN) && !myMainCharacters.contains(a)) {
-				myMainCharacters.add(a);
-			}
+		return getStateIndex().getActorList(ActorState.MAIN);
+	}
+
+	/**
+	 * Gets the Actors in the Level that are in a particular state
+	 * 
+	 * @param state
+	 *            The state to look up
+	 * @return A read-only view of the Actors in the state
+	 */
+	public Set<IPlayActor> getActors(ActorState state) {
+		return getStateIndex().getActors(state);
+	}
+
+	/**
+	 * Provides the index of the Actors in each state, building it from the
+	 * Level's Actors the first time it is needed since it is not saved
+	 * 
+	 * @return The Level's state index
+	 */
+	private ActorStateIndex getStateIndex() {
+		if (myStateIndex == null) {
+			myStateIndex = new ActorStateIndex();
+			myActors.forEach(myStateIndex::addActor);
 		}
-		return myMainCharacters;
+		return myStateIndex;
 	}
 
 	/**
@@ -369,8 +526,8 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	 */
 	@Override
 	public void addAttribute(Attribute attribute) {
+		markEdited();
 		myAttributeManager.addAttribute(attribute);
-
 	}
 
 	/**
@@ -380,8 +537,8 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	 */
 	@Override
 	public void removeAttribute(Attribute attribute) {
+		markEdited();
 		myAttributeManager.removeAttribute(attribute);
-
 	}
 
 	/**
@@ -391,8 +548,7 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	 */
 	@Override
 	public void handleReachedAttribute(AttributeReached trigger) {
-		setChanged();
-		notifyObservers(Arrays.asList(new Object[] { "handleTrigger", trigger }));
+		publish(GameEventType.HANDLE_TRIGGER, trigger);
 	}
 
 	/**
@@ -424,8 +580,8 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	 */
 	@Override
 	public void addRule(Rule rule) {
+		markEdited();
 		myRuleManager.addRule(rule);
-
 	}
 
 	/**
@@ -435,8 +591,8 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	 */
 	@Override
 	public void removeRule(Rule rule) {
+		markEdited();
 		myRuleManager.removeRule(rule);
-
 	}
 
 	/**
@@ -472,6 +628,7 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
      * @param soundtrack	The desired Level Soundtrack
      */
     public void setSoundtrack(String soundtrack) {
+    	markEdited();
     	this.soundtrack = soundtrack;
     }
     
@@ -509,7 +666,7 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
      * @param actor	The garbage collector Actor
      */
     public void addGarbageCollector(IPlayActor actor) {
-    	myActors.add(actor);
+    	addActor((IAuthoringActor) actor);
     	myGarbageCollectors.add(actor);
     }
     
@@ -541,5 +698,37 @@ public class Level extends Observable implements ILevel, IEditableGameElement, C
 	public IPlayGame getGame(){
 		return myGame;
 	}
-	
+
+	/**
+	 * Sets the TriggerIndex to update when the Level's Rules change
+	 * 
+	 * @param triggerIndex The TriggerIndex of the running Game
+	 */
+	@Override
+	public void setTriggerIndex(TriggerIndex triggerIndex) {
+		myRuleManager.setTriggerIndex(triggerIndex, this);
+	}
+
+	@Override
+	public void setEventBus(GameEventBus eventBus) {
+		myEventBus = eventBus;
+	}
+
+	@Override
+	public void publish(GameEventType type, Object argument) {
+		if (myEventBus != null) {
+			myEventBus.publish(type, argument);
+		}
+	}
+
+	@Override
+	public void markEdited() {
+		myEditVersion = EditClock.tick();
+	}
+
+	@Override
+	public long getEditVersion() {
+		return myEditVersion;
+	}
+
 }
@@ -0,0 +1,111 @@
+package gameengine.controller;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import gameengine.model.Actor;
+import gameengine.model.ImageCache;
+
+/**
+ * Prepares a game's next Level while the current one is playing. Preparing a
+ * Level reads it, when the game's Levels are read lazily, decodes its images,
+ * builds its actors' ImageViews off the scene, loads its sounds and prerolls
+ * its soundtrack, so that changing to the Level only has to swap it in. One
+ * background thread prepares Levels for every game.
+ */
+public class LevelPreloader {
+
+	private static final ExecutorService worker = Executors.newSingleThreadExecutor(task -> {
+		Thread thread = new Thread(task, "level-preloader");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private List<Level> myLevels;
+	private int myIndex;
+	private Future<?> myPreparation;
+
+	/**
+	 * Starts preparing a Level in the background. The Level must not be
+	 * playing, or be changed, until it has been waited for.
+	 *
+	 * @param levels
+	 *            The game's Levels
+	 * @param index
+	 *            The index of the Level to prepare
+	 * @param soundEngine
+	 *            The SoundPlayer that will play the Level, or null
+	 */
+	public synchronized void prepare(List<Level> levels, int index, SoundPlayer soundEngine) {
+		if (!isPreparing(levels, index)) {
+			myLevels = levels;
+			myIndex = index;
+			myPreparation = worker.submit(() -> prepareNow(levels.get(index), soundEngine));
+		}
+	}
+
+	/**
+	 * Waits until a Level is prepared. A Level that was not being prepared,
+	 * or whose preparation failed, is prepared on the calling thread.
+	 *
+	 * @param levels
+	 *            The game's Levels
+	 * @param index
+	 *            The index of the Level about to be played
+	 * @param soundEngine
+	 *            The SoundPlayer that will play the Level, or null
+	 */
+	public void awaitPrepared(List<Level> levels, int index, SoundPlayer soundEngine) {
+		Future<?> preparation;
+		synchronized (this) {
+			preparation = isPreparing(levels, index) ? myPreparation : null;
+			myLevels = null;
+			myPreparation = null;
+		}
+		if (preparation == null || !await(preparation)) {
+			prepareNow(levels.get(index), soundEngine);
+		}
+	}
+
+	private boolean isPreparing(List<Level> levels, int index) {
+		return levels == myLevels && index == myIndex;
+	}
+
+	/**
+	 * Waits for a preparation to finish, however often the waiting thread is
+	 * interrupted
+	 *
+	 * @return Whether the preparation succeeded
+	 */
+	private boolean await(Future<?> preparation) {
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					preparation.get();
+					return true;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				} catch (ExecutionException e) {
+					return false;
+				}
+			}
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void prepareNow(Level level, SoundPlayer soundEngine) {
+		ImageCache.preload(level.getImageNames());
+		level.getActors().forEach(actor -> ((Actor) actor).prepareImageView());
+		if (soundEngine != null) {
+			soundEngine.preload(level.getSoundNames());
+			soundEngine.prepareSoundtrack(level.getSoundtrack());
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package gameengine.controller;
+
+/**
+ * One score a player achieved in a game. A player can have any number of
+ * entries; entries with equal scores are ranked by which was achieved first.
+ */
+public class ScoreEntry {
+
+	private String myPlayer;
+	private int myScore;
+	private long mySequence;
+
+	/**
+	 * @param player
+	 *            The player who achieved the score
+	 * @param score
+	 *            The score
+	 * @param sequence
+	 *            The order in which the score was achieved among the game's
+	 *            scores
+	 */
+	public ScoreEntry(String player, int score, long sequence) {
+		myPlayer = player;
+		myScore = score;
+		mySequence = sequence;
+	}
+
+	public String getPlayer() {
+		return myPlayer;
+	}
+
+	public int getScore() {
+		return myScore;
+	}
+
+	public long getSequence() {
+		return mySequence;
+	}
+
+	@Override
+	public String toString() {
+		return myScore + " - " + myPlayer;
+	}
+}
@@ -2,11 +2,10 @@ package gameengine.controller;
 
 
 import java.io.File;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
+import java.util.Map;
 
-import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.util.Duration;
 
@@ -16,47 +15,110 @@ import javafx.util.Duration;
  */
 public class SoundPlayer {
 	
+    public static final int DEFAULT_MAX_VOICES = 4;
+
     private MediaPlayer soundtrackPlayer;
-    private HashMap<String, Media> mediaMap;
-    private List<MediaPlayer> mediaPlayers;
+    private MediaPlayer preparedSoundtrackPlayer;
+    private String preparedSoundtrack;
+    private AudioAssetRegistry registry;
+    private Map<String, SoundVoicePool> voicePools;
+    private int maxVoices;
+    private boolean soundsMuted;
 
     /**
-     * Initializes the mediaMap and mediaPlayers list
+     * Initializes the voice pools over a registry of its own, allowing each
+     * sound effect DEFAULT_MAX_VOICES voices
      */
     public SoundPlayer(){
-        mediaMap = new HashMap<>();
-        mediaPlayers = new ArrayList<>();
+        this(new AudioAssetRegistry());
+    }
+
+    /**
+     * Initializes the voice pools over the given registry, allowing each
+     * sound effect DEFAULT_MAX_VOICES voices
+     * @param registry where the sounds are looked up and loaded
+     */
+    public SoundPlayer(AudioAssetRegistry registry){
+        this(registry, DEFAULT_MAX_VOICES);
+    }
+
+    /**
+     * Initializes the voice pools over the given registry
+     * @param registry where the sounds are looked up and loaded
+     * @param maxVoices the most voices each sound effect may play at once
+     */
+    public SoundPlayer(AudioAssetRegistry registry, int maxVoices){
+        this.registry = registry;
+        voicePools = new HashMap<>();
+        this.maxVoices = maxVoices;
     }
 
 
     /**
-     * Loads multiple sound files from a given directory
+     * Registers multiple sound files from a given directory. They are loaded
+     * when first played or preloaded.
      * @param folder
      */
     public void loadMultipleSoundFilesFromDir(File folder){
-        File[] files = folder.listFiles();
-        for (File file: files) {
-            loadSingleSoundFileFromFile(file.getName(), file);
-        }
+        registry.registerDirectory(folder, false);
     }
 
 
     /**
-     * Loads a sound file from the given file, and puts it into our Media
+     * Registers the sound effects in a given directory. The short ones are
+     * decoded into memory when loaded, so they play without a MediaPlayer.
+     * @param folder
+     */
+    public void loadSoundEffectsFromDir(File folder){
+        registry.registerDirectory(folder, true);
+    }
+
+    /**
+     * Registers a sound file under the given key
      * @param key which is your future file name
      * @param mediaFile which is the file to be loaded
      */
 
     public void loadSingleSoundFileFromFile(String key, File mediaFile){
-        Media sound = new Media(mediaFile.toURI().toString());
-        mediaMap.put(key, sound);
+        registry.register(key, mediaFile, false);
+        SoundVoicePool pool = voicePools.remove(key);
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+
+    /**
+     * Loads the given sounds in the background, so that playing them later
+     * does not wait for them to load
+     * @param soundFileNames
+     */
+    public void preload(Collection<String> soundFileNames){
+        registry.preload(soundFileNames);
+    }
+
+    /**
+     * Creates the player of a soundtrack ahead of it being played, so that
+     * it has prerolled by the time setSoundtrack plays it. May be called from
+     * any thread.
+     * @param soundFileName
+     */
+    public synchronized void prepareSoundtrack(String soundFileName){
+    	
+    	if (!isValid(soundFileName) || soundFileName.equals(preparedSoundtrack)) {
+    		return;
+    	}
+    	
+    	disposePreparedSoundtrack();
+    	preparedSoundtrackPlayer = new MediaPlayer(registry.getMedia(soundFileName));
+    	preparedSoundtrack = soundFileName;
     }
 
     /**
-     * Plays a soundtrack given the sound file name from the mediaMap
+     * Plays a soundtrack given the sound file name from the registry, on its
+     * prepared player if it has one
      * @param soundFileName
      */
-    public void setSoundtrack(String soundFileName){
+    public synchronized void setSoundtrack(String soundFileName){
     	
     	if (!isValid(soundFileName)) {
     		return;
@@ -66,7 +128,14 @@ public class SoundPlayer {
         	soundtrackPlayer.dispose();
         }
 
-        soundtrackPlayer = new MediaPlayer(mediaMap.get(soundFileName));
+        if (soundFileName.equals(preparedSoundtrack)) {
+        	soundtrackPlayer = preparedSoundtrackPlayer;
+        	preparedSoundtrackPlayer = null;
+        	preparedSoundtrack = null;
+        }
+        else {
+        	soundtrackPlayer = new MediaPlayer(registry.getMedia(soundFileName));
+        }
 
         soundtrackPlayer.setOnEndOfMedia(new Runnable() {
             public void run() {
@@ -77,7 +146,8 @@ public class SoundPlayer {
     }
 
     /**
-     * Plays a sound given a sound file name.
+     * Plays a sound given a sound file name, on one of the sound's pooled
+     * voices.
      * @param soundFileName
      */
     public void playSound(String soundFileName){
@@ -85,12 +155,74 @@ public class SoundPlayer {
     	if (!isValid(soundFileName)) {
     		return;
     	}
-    	MediaPlayer mp = new MediaPlayer(mediaMap.get(soundFileName));
-    	mp.play();
-    	mediaPlayers.add(mp);
+    	getVoicePool(soundFileName).play();
+    }
+
+    /**
+     * Provides the voice pool of a sound, creating it on the sound's first
+     * play
+     * @param key -> name of a loaded sound
+     * @return the sound's voice pool
+     */
+    public SoundVoicePool getVoicePool(String key){
+        SoundVoicePool pool = voicePools.get(key);
+        if (pool == null) {
+            pool = new SoundVoicePool(registry.getMedia(key), registry.getClip(key), maxVoices);
+            pool.setMute(soundsMuted);
+            voicePools.put(key, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Sets the most voices each sound effect may play at once
+     * @param maxVoices -> the polyphony cap
+     */
+    public void setMaxVoices(int maxVoices){
+        this.maxVoices = maxVoices;
+        for (SoundVoicePool pool: voicePools.values()) {
+            pool.setMaxVoices(maxVoices);
+        }
+    }
+
+    /**
+     * Counts the MediaPlayers held for sound effects, which is bounded by the
+     * number of sounds times the polyphony cap
+     * @return the number of pooled voices
+     */
+    public int getVoiceCount(){
+        int count = 0;
+        for (SoundVoicePool pool: voicePools.values()) {
+            count += pool.getVoiceCount();
+        }
+        return count;
+    }
+
+    /**
+     * Stops and releases the soundtrack, the prepared soundtrack and every
+     * sound effect voice
+     */
+    public synchronized void dispose(){
+        if (soundtrackPlayer != null) {
+            soundtrackPlayer.dispose();
+            soundtrackPlayer = null;
+        }
+        disposePreparedSoundtrack();
+        for (SoundVoicePool pool: voicePools.values()) {
+            pool.dispose();
+        }
+        voicePools.clear();
     }
 
 
+    private void disposePreparedSoundtrack(){
+        if (preparedSoundtrackPlayer != null) {
+            preparedSoundtrackPlayer.dispose();
+            preparedSoundtrackPlayer = null;
+            preparedSoundtrack = null;
+        }
+    }
+
     /**
      * Mutes or unmutes all sound effects and soundtrack.
      * @param mute -> true = mute, false = unmute
@@ -105,8 +237,9 @@ public class SoundPlayer {
      * @param mute -> true = mute, false = unmute
      */
     public void allSoundsSetMute(boolean mute){
-        for (MediaPlayer mediaPlayer: mediaPlayers){
-            mediaPlayer.setMute(mute);
+        soundsMuted = mute;
+        for (SoundVoicePool pool: voicePools.values()){
+            pool.setMute(mute);
         }
     }
 
@@ -120,14 +253,14 @@ public class SoundPlayer {
     
     /**
      * Tests whether the given string will throw a null pointer exception
-     * when used as a key in the mediaMap to create a new mediaPlayer
+     * when used as a key in the registry to create a new mediaPlayer
      * @param key -> string to be tested
      * @return whether the key can be used to create a valid mediaPlayer
      */
     
     
     public boolean isValid(String key) {
-    	return key != null && mediaMap.get(key) != null;
+    	return registry.contains(key);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,243 @@
+package gameengine.controller;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import javafx.scene.media.AudioClip;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaException;
+import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
+
+/**
+ * The voices that may play one sound effect at the same time. Finished voices
+ * are kept and replayed instead of creating a new MediaPlayer for every play,
+ * and once the polyphony cap is reached the voice that started first is stopped
+ * and reused. Short clips are decoded into memory once as an AudioClip, which
+ * mixes its own instances, so they need no MediaPlayers at all.
+ */
+public class SoundVoicePool {
+
+	private static final long NOT_PLAYING = Long.MIN_VALUE;
+	private static final double NANOS_PER_MILLI = 1e6;
+
+	private Media myMedia;
+	private AudioClip myClip;
+	private int myMaxVoices;
+	private boolean myMute;
+	private Deque<MediaPlayer> myIdleVoices;
+	private Deque<MediaPlayer> myActiveVoices;
+	private MediaPlayer myProbe;
+	private long[] myClipStarts;
+	private int myNextClip;
+	private int myStolenVoices;
+
+	/**
+	 * Creates a pool that plays the sound through MediaPlayers
+	 *
+	 * @param media
+	 *            The sound to play
+	 * @param maxVoices
+	 *            The most voices that may play at once
+	 */
+	public SoundVoicePool(Media media, int maxVoices) {
+		this(media, null, maxVoices);
+	}
+
+	/**
+	 * Creates a pool that plays the sound from a pre-decoded clip, if one is
+	 * given
+	 *
+	 * @param media
+	 *            The sound to play
+	 * @param clip
+	 *            The sound decoded into memory, or null
+	 * @param maxVoices
+	 *            The most voices that may play at once
+	 */
+	public SoundVoicePool(Media media, AudioClip clip, int maxVoices) {
+		myMedia = media;
+		myClip = clip;
+		myIdleVoices = new ArrayDeque<>();
+		myActiveVoices = new ArrayDeque<>();
+		setMaxVoices(maxVoices);
+		if (clip != null) {
+			probeLength();
+		}
+	}
+
+	/**
+	 * Has a MediaPlayer read the sound's length, which the Media only learns
+	 * from a player and an AudioClip never reports. The player is released as
+	 * soon as it is ready. Until then, or if the sound cannot be opened, every
+	 * clip instance started since the last one finished counts as playing.
+	 */
+	private void probeLength() {
+		if (!myMedia.getDuration().isUnknown()) {
+			return;
+		}
+		try {
+			myProbe = new MediaPlayer(myMedia);
+			myProbe.setOnReady(this::disposeProbe);
+			myProbe.setOnError(this::disposeProbe);
+		} catch (MediaException e) {
+			myProbe = null;
+		}
+	}
+
+	private synchronized void disposeProbe() {
+		if (myProbe != null) {
+			myProbe.dispose();
+			myProbe = null;
+		}
+	}
+
+	/**
+	 * Plays the sound on a free voice, stealing the oldest voice if all of
+	 * them are playing
+	 */
+	public synchronized void play() {
+		if (myClip != null) {
+			playClip();
+		} else {
+			playVoice();
+		}
+	}
+
+	private void playVoice() {
+		MediaPlayer voice = myIdleVoices.poll();
+		if (voice == null) {
+			if (myActiveVoices.size() < myMaxVoices) {
+				voice = createVoice();
+			} else {
+				voice = myActiveVoices.poll();
+				voice.stop();
+				myStolenVoices++;
+			}
+		}
+		voice.setMute(myMute);
+		myActiveVoices.add(voice);
+		voice.play();
+	}
+
+	private MediaPlayer createVoice() {
+		MediaPlayer voice = new MediaPlayer(myMedia);
+		voice.setOnEndOfMedia(() -> finish(voice));
+		return voice;
+	}
+
+	/**
+	 * Rewinds a voice that reached the end of the sound and makes it free
+	 */
+	private synchronized void finish(MediaPlayer voice) {
+		voice.stop();
+		if (myActiveVoices.remove(voice)) {
+			myIdleVoices.push(voice);
+		}
+	}
+
+	/**
+	 * Plays the pre-decoded clip. An AudioClip cannot stop one of its
+	 * instances, so when the cap is reached every instance is stopped before
+	 * the new one starts.
+	 */
+	private void playClip() {
+		if (myMute) {
+			return;
+		}
+		long now = System.nanoTime();
+		if (countPlayingClips(now) >= myMaxVoices) {
+			myClip.stop();
+			Arrays.fill(myClipStarts, NOT_PLAYING);
+			myStolenVoices++;
+		}
+		myClipStarts[myNextClip] = now;
+		myNextClip = (myNextClip + 1) % myClipStarts.length;
+		myClip.play();
+	}
+
+	private int countPlayingClips(long now) {
+		if (!myClip.isPlaying()) {
+			return 0;
+		}
+		Duration length = myMedia.getDuration();
+		boolean known = !length.isUnknown() && !length.isIndefinite();
+		int playing = 0;
+		for (long start : myClipStarts) {
+			if (start != NOT_PLAYING && (!known || now - start < length.toMillis() * NANOS_PER_MILLI)) {
+				playing++;
+			}
+		}
+		return playing;
+	}
+
+	/**
+	 * Sets the most voices that may play at once. Free voices beyond the new
+	 * cap are released.
+	 *
+	 * @param maxVoices
+	 *            The polyphony cap, at least one
+	 */
+	public synchronized void setMaxVoices(int maxVoices) {
+		myMaxVoices = Math.max(1, maxVoices);
+		while (myIdleVoices.size() + myActiveVoices.size() > myMaxVoices && !myIdleVoices.isEmpty()) {
+			myIdleVoices.poll().dispose();
+		}
+		myClipStarts = new long[myMaxVoices];
+		Arrays.fill(myClipStarts, NOT_PLAYING);
+		myNextClip = 0;
+	}
+
+	/**
+	 * Mutes or unmutes every voice, including voices started later. Muting a
+	 * clip stops it, since clip instances cannot be muted once playing.
+	 *
+	 * @param mute
+	 *            -> true = mute, false = unmute
+	 */
+	public synchronized void setMute(boolean mute) {
+		myMute = mute;
+		for (MediaPlayer voice : myActiveVoices) {
+			voice.setMute(mute);
+		}
+		if (mute && myClip != null) {
+			myClip.stop();
+			Arrays.fill(myClipStarts, NOT_PLAYING);
+		}
+	}
+
+	/**
+	 * Stops and releases every voice
+	 */
+	public synchronized void dispose() {
+		for (MediaPlayer voice : myActiveVoices) {
+			voice.dispose();
+		}
+		for (MediaPlayer voice : myIdleVoices) {
+			voice.dispose();
+		}
+		myActiveVoices.clear();
+		myIdleVoices.clear();
+		disposeProbe();
+		if (myClip != null) {
+			myClip.stop();
+		}
+	}
+
+	public synchronized int getVoiceCount() {
+		return myIdleVoices.size() + myActiveVoices.size();
+	}
+
+	public synchronized int getActiveVoiceCount() {
+		return myActiveVoices.size();
+	}
+
+	public synchronized int getStolenVoiceCount() {
+		return myStolenVoices;
+	}
+
+	public boolean isPreDecoded() {
+		return myClip != null;
+	}
+}
@@ -0,0 +1,62 @@
+package gameengine.controller;
+
+import javafx.animation.Animation.Status;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.util.Duration;
+
+/**
+ * Drives the game loop from a JavaFX Timeline on the FX application thread.
+ * The Timeline is only created once the clock is first played, so a Game can
+ * be constructed without the JavaFX toolkit.
+ */
+public class TimelineClock implements IGameClock {
+
+	private double myFrameDelay;
+	private Runnable myStep;
+	private Timeline myAnimation;
+
+	public TimelineClock(int framesPerSecond) {
+		myFrameDelay = 1000.0 / framesPerSecond;
+	}
+
+	@Override
+	public void setStep(Runnable step) {
+		myStep = step;
+	}
+
+	@Override
+	public void play() {
+		getAnimation().play();
+	}
+
+	@Override
+	public void pause() {
+		getAnimation().pause();
+	}
+
+	@Override
+	public void stop() {
+		getAnimation().stop();
+	}
+
+	@Override
+	public boolean isPaused() {
+		return getAnimation().getStatus() == Status.PAUSED;
+	}
+
+	/**
+	 * Provides the Timeline, creating it on first use
+	 *
+	 * @return The Timeline that calls the step
+	 */
+	public Timeline getAnimation() {
+		if (myAnimation == null) {
+			KeyFrame frame = new KeyFrame(Duration.millis(myFrameDelay), e -> myStep.run());
+			myAnimation = new Timeline();
+			myAnimation.setCycleCount(Timeline.INDEFINITE);
+			myAnimation.getKeyFrames().add(frame);
+		}
+		return myAnimation;
+	}
+}
@@ -4,7 +4,9 @@ import gameengine.model.Actor;
 
 /**
  * This action is used to apply forces such as gravity and friction on actors. 
- * It is most commonly used paired with the TickTrigger
+ * It is most commonly used paired with the TickTrigger.
+ * Actors in a running level are queued for the Game's batch physics pass
+ * instead of being integrated one at a time.
  * @author justinbergkamp
  */
 public class ApplyPhysics extends ActorAction {
@@ -15,7 +17,9 @@ public class ApplyPhysics extends ActorAction {
 
 	@Override
 	public void perform() {
-		getMyActor().getPhysicsEngine().tick(getMyActor());
+		if (!getMyActor().queuePhysicsTick()) {
+			getMyActor().getPhysicsEngine().tick(getMyActor());
+		}
 
 	}
 
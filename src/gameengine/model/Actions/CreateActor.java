@@ -2,10 +2,9 @@ package gameengine.model.Actions;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Observable;
 
-import authoringenvironment.model.ActorCopier;
 import gameengine.model.Actor;
+import gameengine.model.GameEventType;
 import gameengine.model.IGameElement;
 
 public class CreateActor extends Action {
@@ -46,16 +45,14 @@ public class CreateActor extends Action {
     
 	@Override
 	public void perform() {
-		ActorCopier copier = new ActorCopier(myActorToCopy);
-		cloneActor = copier.makeCopy();
+		cloneActor = myActorToCopy.getPrototype().acquire();
         if (isRandom){
             myX = myMinX + (myMaxX - myMinX) * Math.random();
             myY = myMinY + (myMaxY - myMinY) * Math.random();
         }
         cloneActor.setX(myX);
 		cloneActor.setY(myY);
-		getGameElement().changed();
-		((Observable) getGameElement()).notifyObservers(Arrays.asList(new Object[]{"addActor",cloneActor}));
+		getGameElement().publish(GameEventType.ADD_ACTOR, cloneActor);
 	}
 
 	public Double getMyX() {
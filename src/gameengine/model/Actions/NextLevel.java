@@ -1,9 +1,7 @@
 package gameengine.model.Actions;
 
-import java.util.ArrayList;
-import java.util.Observable;
-
 import gameengine.model.Actor;
+import gameengine.model.GameEventType;
 import gameengine.model.IGameElement;
 
 public class NextLevel extends Action {
@@ -15,10 +13,7 @@ public class NextLevel extends Action {
 
 	@Override
 	public void perform() {
-		getGameElement().changed();
-        ArrayList<String> myList = new ArrayList<String>();
-        myList.add("nextLevel");
-        ((Observable) getGameElement()).notifyObservers(myList);
+		getGameElement().publish(GameEventType.NEXT_LEVEL, null);
 	}
 	
 	public Actor getAssignedActor() {
@@ -1,9 +1,6 @@
 package gameengine.model.Actions;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Observable;
-
+import gameengine.model.GameEventType;
 import gameengine.model.IGameElement;
 
 public class SoundAction extends Action{
@@ -17,11 +14,7 @@ public class SoundAction extends Action{
 
 	@Override
 	public void perform() {
-		getGameElement().changed();
-		List<String> send = new ArrayList<>();
-		send.add("playSound");
-		send.add(soundFile);
-		((Observable) getGameElement()).notifyObservers(send);
+		getGameElement().publish(GameEventType.PLAY_SOUND, soundFile);
 	}
 	
 	@Override
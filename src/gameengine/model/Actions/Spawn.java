@@ -1,11 +1,7 @@
 package gameengine.model.Actions;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Observable;
-
-import authoringenvironment.model.ActorCopier;
 import gameengine.model.Actor;
+import gameengine.model.GameEventType;
 import gameengine.model.IPlayActor;
 
 
@@ -46,8 +42,7 @@ public class Spawn extends ActorAction{
 
 		//The math in this method is used to calculate the centers of the primary actor and the spawned actor, to give a value 
 		//position relative to the primary actor
-		ActorCopier myActorCopier = new ActorCopier((Actor)mySpawnedActor);
-		Actor clone = myActorCopier.makeCopy();
+		Actor clone = ((Actor)mySpawnedActor).getPrototype().acquire();
 		clone.setHeading(getMyActor().getHeading());
 		double halfWidth = getMyActor().getBounds().getWidth()/2;
 		double halfHeight = getMyActor().getBounds().getHeight()/2;
@@ -58,11 +53,7 @@ public class Spawn extends ActorAction{
 		clone.setX(startingXPos - clone.getBounds().getWidth()/2 +(x_Offset*(clone.getBounds().getWidth()/2 + halfWidth)));
 		clone.setY(startingYPos - clone.getBounds().getHeight()/2 -(y_Offset*(clone.getBounds().getHeight()/2 + halfHeight)));
 		clone.setHeading(spawnAngle);
-		getMyActor().changed();
-		List<Object> myList = new ArrayList<>();
-		myList.add("addActor");
-		myList.add(clone);
-		((Observable) getMyActor()).notifyObservers(myList);
+		getMyActor().publish(GameEventType.ADD_ACTOR, clone);
 	}
 
 	public IPlayActor getMySpawnedActor() {
@@ -1,9 +1,7 @@
 package gameengine.model.Actions;
 
-import java.util.ArrayList;
-import java.util.Observable;
-
 import gameengine.model.Actor;
+import gameengine.model.GameEventType;
 import gameengine.model.IGameElement;
 
 public class WinGame extends Action {
@@ -15,10 +13,7 @@ public class WinGame extends Action {
 
     @Override
     public void perform() {
-        getGameElement().changed();
-        ArrayList<String> myList = new ArrayList<String>();
-        myList.add("winGame");
-        ((Observable) getGameElement()).notifyObservers(myList);
+        getGameElement().publish(GameEventType.WIN_GAME, null);
     }
 
 	public Actor getAssignedActor() {
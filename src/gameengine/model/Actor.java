@@ -1,6 +1,6 @@
 package gameengine.model;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -10,6 +10,7 @@ import java.util.Set;
 
 import com.thoughtworks.xstream.annotations.XStreamOmitField;
 
+import authoringenvironment.model.EditClock;
 import authoringenvironment.model.IAuthoringActor;
 import gameengine.controller.IPlayGame;
 import gameengine.model.Triggers.AttributeReached;
@@ -43,17 +44,39 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	private double myImageViewSize;
 	@XStreamOmitField
 	private ImageView myImageView;
+	@XStreamOmitField
+	private boolean myImageViewPrepared;
 	private RuleManager myRuleManager;
 	private AttributeManager myAttributeManager;
+	@XStreamOmitField
 	private PhysicsEngine myPhysicsEngine;
 	private Set<ActorState> myStates;
 	private Sprite mySprite;
+	@XStreamOmitField
 	private NextValues myNextValues;
 	private double myRotate;
 	private double myOpacity;
 	private double myScaleX;
 	private double myScaleY;
 	private IPlayGame myGame;
+	@XStreamOmitField
+	private KinematicsStore myKinematics;
+	@XStreamOmitField
+	private int myKinematicsSlot;
+	@XStreamOmitField
+	private ActorPrototype myPrototype;
+	@XStreamOmitField
+	private ActorPrototype mySource;
+	@XStreamOmitField
+	private boolean myRetained;
+	@XStreamOmitField
+	private int myLevelSlot;
+	@XStreamOmitField
+	private List<ActorStateIndex> myStateIndices;
+	@XStreamOmitField
+	private GameEventBus myEventBus;
+	@XStreamOmitField
+	private long myEditVersion;
 
 	/**
 	 * Converts a list of Rules to a map of trigger to list of Actions
@@ -66,8 +89,7 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 		myImageViewName = DEFAULT_IMAGE_NAME;
 		mySprite = new Sprite();
 		myNextValues = new NextValues();
-		setImageView(
-				new ImageView(new Image(getClass().getClassLoader().getResourceAsStream(mySprite.getCurrentImage()))));
+		setImageView(new ImageView(ImageCache.getImage(mySprite.getCurrentImage())));
 		myRotate = myImageView.getRotate();
 		myOpacity = myImageView.getOpacity();
 		myScaleX = myImageView.getScaleX();
@@ -93,6 +115,7 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void addAttribute(Attribute attribute) {
+		markEdited();
 		myAttributeManager.addAttribute(attribute);
 	}
 
@@ -131,6 +154,7 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void addRule(Rule newRule) {
+		markEdited();
 		myRuleManager.addRule(newRule);
 	}
 
@@ -141,6 +165,9 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public double getVeloX() {
+		if (myKinematics != null) {
+			return myKinematics.getVeloX(myKinematicsSlot);
+		}
 		return veloX;
 	}
 
@@ -151,6 +178,9 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public double getVeloY() {
+		if (myKinematics != null) {
+			return myKinematics.getVeloY(myKinematicsSlot);
+		}
 		return veloY;
 	}
 
@@ -162,8 +192,12 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void setX(double updateXPosition) {
-		x = updateXPosition;
-		myImageView.setX(x);
+		if (myKinematics != null) {
+			myKinematics.setX(myKinematicsSlot, updateXPosition);
+		} else {
+			x = updateXPosition;
+		}
+		myImageView.setX(updateXPosition);
 	}
 
 	/**
@@ -174,7 +208,11 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void setY(double updateYPosition) {
-		y = updateYPosition;
+		if (myKinematics != null) {
+			myKinematics.setY(myKinematicsSlot, updateYPosition);
+		} else {
+			y = updateYPosition;
+		}
 		myImageView.setY(updateYPosition);
 
 	}
@@ -186,7 +224,11 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 *            The new X velocity
 	 */
 	public void setVeloX(double updateXVelo) {
-		veloX = updateXVelo;
+		if (myKinematics != null) {
+			myKinematics.setVeloX(myKinematicsSlot, updateXVelo);
+		} else {
+			veloX = updateXVelo;
+		}
 	}
 
 	/**
@@ -196,7 +238,11 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 *            The new Y velocity
 	 */
 	public void setVeloY(double updateYVelo) {
-		veloY = updateYVelo;
+		if (myKinematics != null) {
+			myKinematics.setVeloY(myKinematicsSlot, updateYVelo);
+		} else {
+			veloY = updateYVelo;
+		}
 	}
 
 	/**
@@ -217,6 +263,7 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void setName(String name) {
+		markEdited();
 		myName = name;
 	}
 
@@ -241,6 +288,9 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public double getX() {
+		if (myKinematics != null) {
+			return myKinematics.getX(myKinematicsSlot);
+		}
 		return x;
 	}
 
@@ -251,6 +301,9 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public double getY() {
+		if (myKinematics != null) {
+			return myKinematics.getY(myKinematicsSlot);
+		}
 		return y;
 	}
 
@@ -290,10 +343,31 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 *            The Actor's ImageView
 	 */
 	public void setImageViewName(String myImageViewName) {
+		markEdited();
 		this.myImageViewName = myImageViewName;
 		mySprite.setImage(myImageViewName);
-		this.setImageView(
-				new ImageView(new Image(getClass().getClassLoader().getResourceAsStream(mySprite.getCurrentImage()))));
+		this.setImageView(new ImageView(ImageCache.getImage(mySprite.getCurrentImage())));
+	}
+
+	/**
+	 * Shows a new image in the Actor's existing ImageView, so that an Actor
+	 * can be reused without building another ImageView. An Actor that has no
+	 * ImageView, because it was loaded from a file, is given one.
+	 * 
+	 * @param imageViewName
+	 *            The name of the image
+	 */
+	public void resetImageView(String imageViewName) {
+		markEdited();
+		this.myImageViewName = imageViewName;
+		mySprite.setImage(imageViewName);
+		Image image = ImageCache.getImage(mySprite.getCurrentImage());
+		if (myImageView == null) {
+			setImageView(new ImageView(image));
+		} else {
+			myImageView.setImage(image);
+			myImageView.setVisible(true);
+		}
 	}
 
 	/**
@@ -328,6 +402,7 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 *            the myFriction to set
 	 */
 	public void setFriction(double myFriction) {
+		markEdited();
 		this.myFriction = myFriction;
 	}
 
@@ -358,6 +433,7 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void setSize(double size) {
+		markEdited();
 		myImageView.setFitHeight(size);
 		myImageView.setPreserveRatio(true);
 		myImageViewSize = size;
@@ -376,7 +452,11 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void addState(ActorState state) {
-		myStates.add(state);
+		if (myStates.add(state) && myStateIndices != null) {
+			for (ActorStateIndex index : myStateIndices) {
+				index.stateAdded(this, state);
+			}
+		}
 	}
 
 	/**
@@ -384,7 +464,11 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void removeState(ActorState state) {
-		myStates.remove(state);
+		if (myStates.remove(state) && myStateIndices != null) {
+			for (ActorStateIndex index : myStateIndices) {
+				index.stateRemoved(this, state);
+			}
+		}
 	}
 
 	/**
@@ -410,6 +494,7 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void setID(int ID) {
+		markEdited();
 		myID = ID;
 	}
 
@@ -418,7 +503,11 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void setHeading(double h) {
-		myHeading = h;
+		if (myKinematics != null) {
+			myKinematics.setHeading(myKinematicsSlot, h);
+		} else {
+			myHeading = h;
+		}
 	}
 
 	/**
@@ -426,6 +515,9 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public double getHeading() {
+		if (myKinematics != null) {
+			return myKinematics.getHeading(myKinematicsSlot);
+		}
 		return myHeading;
 	}
 
@@ -442,8 +534,7 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void handleReachedAttribute(AttributeReached trigger) {
-		setChanged();
-		notifyObservers(Arrays.asList(new Object[] { "handleTrigger", trigger }));
+		publish(GameEventType.HANDLE_TRIGGER, trigger);
 	}
 
 	/**
@@ -451,8 +542,8 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void removeAttribute(Attribute attribute) {
+		markEdited();
 		myAttributeManager.removeAttribute(attribute);
-
 	}
 
 	/**
@@ -460,8 +551,8 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void removeRule(Rule rule) {
+		markEdited();
 		myRuleManager.removeRule(rule);
-
 	}
 
 	/**
@@ -479,6 +570,7 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 * Adds an Image to the Actor's Sprite
 	 */
 	public void addSpriteImage(String newImage) {
+		markEdited();
 		mySprite.addImage(newImage);
 	}
 
@@ -496,6 +588,7 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 *            The desired Actor Sprite
 	 */
 	public void setSprite(Sprite sprite) {
+		markEdited();
 		this.mySprite = sprite;
 	}
 
@@ -503,7 +596,7 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 * Moves the Actor's Sprite to its next image
 	 */
 	public void nextImage() {
-		myImageView.setImage(new Image(getClass().getClassLoader().getResourceAsStream(mySprite.getNextImage())));
+		myImageView.setImage(ImageCache.getImage(mySprite.getNextImage()));
 	}
 
 	/**
@@ -511,6 +604,7 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void setRotate(double rotate) {
+		markEdited();
 		myImageView.setRotate(rotate);
 		myRotate = rotate;
 	}
@@ -528,6 +622,7 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void setOpacity(double opacity) {
+		markEdited();
 		myImageView.setOpacity(opacity);
 		myOpacity = opacity;
 	}
@@ -545,6 +640,7 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void setScaleX(double scaleX) {
+		markEdited();
 		myScaleX = scaleX;
 		myImageView.setScaleX(scaleX);
 	}
@@ -562,6 +658,7 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void setScaleY(double scaleY) {
+		markEdited();
 		myScaleY = scaleY;
 		myImageView.setScaleY(scaleY);
 	}
@@ -575,10 +672,14 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	}
 
 	/**
-	 * Provides the Actor's next values
+	 * Provides the Actor's next values, which are not saved and start empty
+	 * when the Actor is loaded
 	 */
 	@Override
 	public NextValues getNextValues() {
+		if (myNextValues == null) {
+			myNextValues = new NextValues();
+		}
 		return myNextValues;
 	}
 
@@ -595,9 +696,9 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 */
 	@Override
 	public void restoreImageView() {
-		myImageView = new ImageView(myImageViewName);
-		setX(x);
-		setY(y);
+		myImageView = new ImageView(ImageCache.getImage(myImageViewName));
+		setX(getX());
+		setY(getY());
 		setSize(myImageViewSize);
 		setOpacity(myOpacity);
 		setRotate(myRotate);
@@ -605,6 +706,34 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 		setScaleY(myScaleY);
 	}
 
+	/**
+	 * Restores the Actor's ImageView before the Actor is shown, off the scene,
+	 * so that showing the Actor does not restore it again
+	 */
+	public void prepareImageView() {
+		restoreImageView();
+		myImageViewPrepared = true;
+	}
+
+	/**
+	 * States that the Actor's ImageView was set up off the scene, as by an
+	 * ActorPrototype, so that showing the Actor does not restore it
+	 */
+	public void markImageViewPrepared() {
+		myImageViewPrepared = true;
+	}
+
+	/**
+	 * Restores the Actor's ImageView for showing the Actor, unless it was
+	 * prepared since the Actor was last shown
+	 */
+	public void restoreUnpreparedImageView() {
+		if (!myImageViewPrepared) {
+			restoreImageView();
+		}
+		myImageViewPrepared = false;
+	}
+
 	/**
 	 * Sets the Actor's visibility
 	 */
@@ -629,7 +758,20 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 	 *            The desired Actor states
 	 */
 	public void setStates(Set<ActorState> states) {
+		Set<ActorState> oldStates = myStates;
 		myStates = states;
+		if (myStateIndices != null) {
+			for (ActorStateIndex index : myStateIndices) {
+				for (ActorState state : oldStates) {
+					if (!states.contains(state)) {
+						index.stateRemoved(this, state);
+					}
+				}
+				for (ActorState state : states) {
+					index.stateAdded(this, state);
+				}
+			}
+		}
 	}
 
 	@Override
@@ -642,4 +784,169 @@ public class Actor extends Observable implements Observer, IPlayActor, IDisplayA
 		return myGame;
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Moves the Actor's position, velocity and heading into a slot of the
+	 * store, where they are kept until the Actor is detached
+	 */
+	@Override
+	public void attachKinematics(KinematicsStore store) {
+		if (myKinematics != null) {
+			detachKinematics();
+		}
+		int slot = store.allocate(this);
+		store.setX(slot, x);
+		store.setY(slot, y);
+		store.setVeloX(slot, veloX);
+		store.setVeloY(slot, veloY);
+		store.setHeading(slot, myHeading);
+		myKinematicsSlot = slot;
+		myKinematics = store;
+	}
+
+	/**
+	 * Copies the Actor's position, velocity and heading back out of its store
+	 */
+	@Override
+	public void detachKinematics() {
+		if (myKinematics == null) {
+			return;
+		}
+		copyKinematicsFromStore();
+		myKinematics.release(myKinematicsSlot);
+		myKinematics = null;
+	}
+
+	private void copyKinematicsFromStore() {
+		x = myKinematics.getX(myKinematicsSlot);
+		y = myKinematics.getY(myKinematicsSlot);
+		veloX = myKinematics.getVeloX(myKinematicsSlot);
+		veloY = myKinematics.getVeloY(myKinematicsSlot);
+		myHeading = myKinematics.getHeading(myKinematicsSlot);
+	}
+
+	/**
+	 * Has XStream save the Actor's current position, velocity and heading.
+	 * While the Actor is attached to a store, its fields still hold the
+	 * values it was attached with, so the store's values are copied into
+	 * them first.
+	 */
+	private Object writeReplace() {
+		if (myKinematics != null) {
+			copyKinematicsFromStore();
+		}
+		return this;
+	}
+
+	/**
+	 * Queues the Actor for its store's batch physics pass
+	 */
+	@Override
+	public boolean queuePhysicsTick() {
+		if (myKinematics == null) {
+			return false;
+		}
+		myKinematics.queueTick(myKinematicsSlot);
+		return true;
+	}
+
+	/**
+	 * Moves the ImageView to the Actor's stored position after a batch pass
+	 */
+	void syncImageView() {
+		myImageView.setX(getX());
+		myImageView.setY(getY());
+	}
+
+	/**
+	 * Sets the TriggerIndex to update when the Actor's Rules change
+	 */
+	@Override
+	public void setTriggerIndex(TriggerIndex triggerIndex) {
+		myRuleManager.setTriggerIndex(triggerIndex, this);
+	}
+
+	@Override
+	public void setEventBus(GameEventBus eventBus) {
+		myEventBus = eventBus;
+	}
+
+	@Override
+	public void publish(GameEventType type, Object argument) {
+		if (myEventBus != null) {
+			myEventBus.publish(type, argument);
+		}
+	}
+
+	/**
+	 * Provides the prototype used to copy this Actor when it is spawned or
+	 * created by an Action, compiling it on first use
+	 *
+	 * @return The Actor's prototype
+	 */
+	public ActorPrototype getPrototype() {
+		if (myPrototype == null) {
+			myPrototype = new ActorPrototype(this);
+		}
+		return myPrototype;
+	}
+
+	/**
+	 * Sets the prototype this Actor was copied from
+	 *
+	 * @param source
+	 *            The prototype to return the Actor to when it is recycled
+	 */
+	public void setSource(ActorPrototype source) {
+		mySource = source;
+	}
+
+	@Override
+	public void recycle() {
+		if (mySource != null && !myRetained) {
+			mySource.release(this);
+		}
+	}
+
+	@Override
+	public void retain() {
+		myRetained = true;
+	}
+
+	@Override
+	public void addStateIndex(ActorStateIndex index) {
+		if (myStateIndices == null) {
+			myStateIndices = new ArrayList<>();
+		}
+		if (!myStateIndices.contains(index)) {
+			myStateIndices.add(index);
+		}
+	}
+
+	@Override
+	public void removeStateIndex(ActorStateIndex index) {
+		if (myStateIndices != null) {
+			myStateIndices.remove(index);
+		}
+	}
+
+	@Override
+	public int getLevelSlot() {
+		return myLevelSlot;
+	}
+
+	@Override
+	public void setLevelSlot(int slot) {
+		myLevelSlot = slot;
+	}
+
+	@Override
+	public void markEdited() {
+		myEditVersion = EditClock.tick();
+	}
+
+	@Override
+	public long getEditVersion() {
+		return myEditVersion;
+	}
+
+}
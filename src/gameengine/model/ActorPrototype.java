@@ -0,0 +1,170 @@
+package gameengine.model;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import authoringenvironment.model.ActorCopier;
+import gameengine.model.Actions.Action;
+import gameengine.model.Triggers.ITrigger;
+
+/**
+ * Reusable recipe for copying a template Actor, as used by Spawn and
+ * CreateActor. The constructors of the template's triggers and actions are
+ * resolved once, so building a copy's Rules no longer searches for them by
+ * reflection. Copies that die are handed back to the prototype they came from
+ * and reset on their next use instead of being rebuilt, keeping their
+ * ImageViews.
+ */
+public class ActorPrototype {
+
+	private static final int MAX_POOL_SIZE = 256;
+
+	private Actor myTemplate;
+	private ActorCopier myCopier;
+	private List<CompiledRule> myRules;
+	private Deque<Actor> myPool;
+	private int myHits;
+	private int myMisses;
+
+	public ActorPrototype(Actor template) {
+		myTemplate = template;
+		myCopier = new ActorCopier(template);
+		myPool = new ArrayDeque<>();
+		compile();
+	}
+
+	/**
+	 * Resolves the constructor and arguments of every one of the template's
+	 * Rules. If any of them cannot be resolved, copies fall back to the
+	 * ActorCopier, which reports the problem.
+	 */
+	private void compile() {
+		myRules = new ArrayList<>();
+		try {
+			for (List<Rule> rules : myTemplate.getRules().values()) {
+				for (Rule rule : rules) {
+					myRules.add(new CompiledRule(rule));
+				}
+			}
+		} catch (ReflectiveOperationException | SecurityException e) {
+			myRules = null;
+		}
+	}
+
+	/**
+	 * Provides a copy of the template, reusing a pooled copy when there is one.
+	 * The copy's ImageView is ready to show, so the GameScreen shows it as it
+	 * is.
+	 *
+	 * @return A copy of the template that is not in any level
+	 */
+	public Actor acquire() {
+		Actor actor = myPool.poll();
+		if (actor != null) {
+			myHits++;
+			reset(actor);
+		} else {
+			myMisses++;
+			actor = new Actor();
+			myCopier.copyProperties(actor, myTemplate);
+			copyRules(actor);
+			actor.setSource(this);
+		}
+		actor.markImageViewPrepared();
+		return actor;
+	}
+
+	/**
+	 * Returns a copy that has left its level to the pool
+	 *
+	 * @param actor
+	 *            A copy made by this prototype
+	 */
+	public void release(Actor actor) {
+		if (myPool.size() < MAX_POOL_SIZE) {
+			myPool.push(actor);
+		}
+	}
+
+	/**
+	 * Restores a pooled copy to the template's properties in its existing
+	 * ImageView. The copy's Rules are rebuilt, since its triggers may have
+	 * kept state, such as the collisions a one-time CollisionTrigger has
+	 * resolved. Copies that other actors' triggers still refer to are
+	 * retained and never pooled.
+	 */
+	private void reset(Actor actor) {
+		myCopier.resetProperties(actor, myTemplate);
+		actor.setX(0);
+		actor.setY(0);
+		actor.setVeloX(0);
+		actor.setVeloY(0);
+		actor.setHeading(0);
+		actor.setNextValues(new NextValues());
+		actor.getRules().clear();
+		copyRules(actor);
+	}
+
+	private void copyRules(Actor actor) {
+		if (myRules != null) {
+			try {
+				for (CompiledRule rule : myRules) {
+					actor.addRule(rule.instantiate(actor));
+				}
+				return;
+			} catch (ReflectiveOperationException e) {
+				myRules = null;
+			}
+		}
+		myCopier.copyRules(actor, myTemplate);
+	}
+
+	public int getHits() {
+		return myHits;
+	}
+
+	public int getMisses() {
+		return myMisses;
+	}
+
+	public int getPoolSize() {
+		return myPool.size();
+	}
+
+	/**
+	 * A template Rule with its trigger and action constructors resolved
+	 */
+	private class CompiledRule {
+		private Constructor<?> myTriggerConstructor;
+		private Object[] myTriggerArguments;
+		private boolean myTriggerOnSelf;
+		private Constructor<?> myActionConstructor;
+		private Object[] myActionArguments;
+
+		private CompiledRule(Rule rule) throws ReflectiveOperationException {
+			ITrigger trigger = rule.getMyTrigger();
+			myTriggerArguments = trigger.getParameters();
+			myTriggerOnSelf = myTriggerArguments[0].getClass().equals(Actor.class)
+					&& ((Actor) myTriggerArguments[0]).getID() == myTemplate.getID();
+			myTriggerConstructor = myCopier.findConstructor(trigger, myTriggerArguments);
+			Action action = rule.getMyAction();
+			myActionArguments = action.getParameters();
+			myActionArguments[0] = myTemplate;
+			myActionConstructor = myCopier.findConstructor(action, myActionArguments);
+		}
+
+		private Rule instantiate(Actor actor) throws ReflectiveOperationException {
+			Object[] triggerArguments = myTriggerArguments.clone();
+			if (myTriggerOnSelf) {
+				triggerArguments[0] = actor;
+			}
+			Object[] actionArguments = myActionArguments.clone();
+			actionArguments[0] = actor;
+			return new Rule((ITrigger) myTriggerConstructor.newInstance(triggerArguments),
+					(Action) myActionConstructor.newInstance(actionArguments));
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package gameengine.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Live membership of a Level's Actors in each ActorState. Actors report their
+ * own state changes to the index, so finding the main characters or the dead
+ * Actors does not require a scan of every Actor in the Level.
+ */
+public class ActorStateIndex {
+
+	private Map<ActorState, Set<IPlayActor>> myMembers;
+	private Map<ActorState, List<IPlayActor>> myLists;
+
+	public ActorStateIndex() {
+		myMembers = new EnumMap<>(ActorState.class);
+		myLists = new EnumMap<>(ActorState.class);
+		for (ActorState state : ActorState.values()) {
+			myMembers.put(state, new LinkedHashSet<>());
+		}
+	}
+
+	/**
+	 * Starts tracking an Actor under each of its current states
+	 *
+	 * @param actor
+	 *            The Actor to track
+	 */
+	public void addActor(IPlayActor actor) {
+		actor.addStateIndex(this);
+		for (ActorState state : ActorState.values()) {
+			if (actor.checkState(state)) {
+				stateAdded(actor, state);
+			}
+		}
+	}
+
+	/**
+	 * Stops tracking an Actor
+	 *
+	 * @param actor
+	 *            The Actor to stop tracking
+	 */
+	public void removeActor(IPlayActor actor) {
+		actor.removeStateIndex(this);
+		for (ActorState state : ActorState.values()) {
+			stateRemoved(actor, state);
+		}
+	}
+
+	/**
+	 * Records that a tracked Actor has gained a state
+	 *
+	 * @param actor
+	 *            The Actor whose states changed
+	 * @param state
+	 *            The state it gained
+	 */
+	public void stateAdded(IPlayActor actor, ActorState state) {
+		if (myMembers.get(state).add(actor)) {
+			myLists.remove(state);
+		}
+	}
+
+	/**
+	 * Records that a tracked Actor has lost a state
+	 *
+	 * @param actor
+	 *            The Actor whose states changed
+	 * @param state
+	 *            The state it lost
+	 */
+	public void stateRemoved(IPlayActor actor, ActorState state) {
+		if (myMembers.get(state).remove(actor)) {
+			myLists.remove(state);
+		}
+	}
+
+	/**
+	 * Provides the tracked Actors in a state, in the order they entered it
+	 *
+	 * @param state
+	 *            The state to look up
+	 * @return A read-only view of the Actors in the state
+	 */
+	public Set<IPlayActor> getActors(ActorState state) {
+		return Collections.unmodifiableSet(myMembers.get(state));
+	}
+
+	/**
+	 * Provides the tracked Actors in a state as a list, which is only rebuilt
+	 * after the state's members change
+	 *
+	 * @param state
+	 *            The state to look up
+	 * @return A read-only list of the Actors in the state
+	 */
+	public List<IPlayActor> getActorList(ActorState state) {
+		List<IPlayActor> list = myLists.get(state);
+		if (list == null) {
+			list = Collections.unmodifiableList(new ArrayList<>(myMembers.get(state)));
+			myLists.put(state, list);
+		}
+		return list;
+	}
+
+	/**
+	 * Provides the Actor that has been in a state the longest
+	 *
+	 * @param state
+	 *            The state to look up
+	 * @return The first Actor in the state, or null if there is none
+	 */
+	public IPlayActor getFirst(ActorState state) {
+		Set<IPlayActor> members = myMembers.get(state);
+		return members.isEmpty() ? null : members.iterator().next();
+	}
+}
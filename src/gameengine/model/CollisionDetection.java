@@ -1,44 +1,95 @@
 package gameengine.model;
 
-import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.thoughtworks.xstream.annotations.XStreamOmitField;
 
 import gameengine.model.Triggers.CollisionTrigger;
-import javafx.geometry.Point2D;
+import javafx.geometry.Bounds;
 
 /**
  * Collision Detection class handles checking for collisions among a list of
  * Actors It also handles resolving said collision should one be found. 
  * 
+ * Detection runs in two phases. Contacts are first found from the bounds each
+ * actor had at the start of the step, which may be split across a fork-join
+ * pool. The collision triggers are then sent on the calling thread in list
+ * order, so the result does not depend on the number of threads used.
+ * 
  * @author justinbergkamp
  *
  */
 public class CollisionDetection {
 
-	private String SideCollision = "SideCollision";
-	private String TopCollision = "TopCollision";
-	private String BottomCollision = "BottomCollision";
-	private static final String TRIGGER_PREFIX = "gameengine.model.Triggers.";
+	private static final CollisionType[] COLLISION_TYPES = CollisionType.values();
+	private static final int PARALLEL_THRESHOLD = 512;
+	private static final int TASK_GRAIN = 128;
+	private static final int INITIAL_CONTACTS = 4;
+	private static final ThreadLocal<SpatialHash.Candidates> CANDIDATES = ThreadLocal
+			.withInitial(SpatialHash.Candidates::new);
 
 	private PhysicsEngine myPhysicsEngine;
+	@XStreamOmitField
+	private SpatialHash myBroadPhase;
+	@XStreamOmitField
+	private Map<CollisionType, CollisionTrigger> myCollisionTriggers;
+	@XStreamOmitField
+	private int[][] myContacts;
+	@XStreamOmitField
+	private int[] myContactCounts;
+	@XStreamOmitField
+	private ForkJoinPool myPool;
 
 	public CollisionDetection(PhysicsEngine physicsEngine) {
 		setMyPhysicsEngine(physicsEngine);
+		myBroadPhase = new SpatialHash();
+		initCollisionTriggers();
+	}
+
+	/**
+	 * Creates the single trigger instance of each CollisionType that is reused
+	 * for every collision of that type
+	 */
+	private void initCollisionTriggers() {
+		myCollisionTriggers = new EnumMap<>(CollisionType.class);
+		for (CollisionType type : CollisionType.values()) {
+			myCollisionTriggers.put(type, type.createTrigger());
+		}
 	}
 
 	/**
 	 * Called on list of actors in Level to detect any collisions between unique
-	 * actors
+	 * actors. Only pairs that share a cell of the broad phase grid are checked
+	 * for intersecting bounds.
 	 * 
 	 * @return List of actors with updated position variables
 	 */
 	public List<IPlayActor> detection(List<IPlayActor> list) {
-		for (IPlayActor a1 : list) {
-			for (IPlayActor a2 : list) {
-				if (a1 != a2) { // Checks that each actor in the pair is unique
-					if (isCollision(a1, a2))
-						resolveCollision(a1, a2);
-				}
+		if (myBroadPhase == null) {
+			myBroadPhase = new SpatialHash();
+		}
+		if (myCollisionTriggers == null) {
+			initCollisionTriggers();
+		}
+		myBroadPhase.rebuild(list);
+		int count = list.size();
+		ensureContactCapacity(count);
+		if (myPool != null && count >= PARALLEL_THRESHOLD) {
+			myPool.invoke(new ContactTask(0, count));
+		} else {
+			findContacts(0, count);
+		}
+		for (int i = 0; i < count; i++) {
+			IPlayActor a1 = list.get(i);
+			for (int c = 0; c < myContactCounts[i]; c++) {
+				int contact = myContacts[i][c];
+				resolveCollision(a1, list.get(contact / COLLISION_TYPES.length),
+						COLLISION_TYPES[contact % COLLISION_TYPES.length]);
 			}
 		}
 		for (IPlayActor a1 : list) {
@@ -50,6 +101,83 @@ public class CollisionDetection {
 		return list;
 	}
 
+	/**
+	 * Finds the contacts of the actors with indices in [from, to). Each actor's
+	 * contacts are written only to its own row, so ranges can be processed
+	 * concurrently.
+	 * 
+	 * @param from
+	 * @param to
+	 */
+	private void findContacts(int from, int to) {
+		SpatialHash.Candidates candidates = CANDIDATES.get();
+		for (int i = from; i < to; i++) {
+			myContactCounts[i] = 0;
+			Bounds b1 = myBroadPhase.getBounds(i);
+			myBroadPhase.findCandidates(i, candidates);
+			for (int c = 0; c < candidates.size(); c++) {
+				int other = candidates.get(c);
+				Bounds b2 = myBroadPhase.getBounds(other);
+				if (isCollision(b1, b2)) {
+					addContact(i, other * COLLISION_TYPES.length + getCollisionType(b1, b2).ordinal());
+				}
+			}
+		}
+	}
+
+	private void addContact(int index, int contact) {
+		if (myContactCounts[index] == myContacts[index].length) {
+			myContacts[index] = Arrays.copyOf(myContacts[index], myContacts[index].length * 2);
+		}
+		myContacts[index][myContactCounts[index]++] = contact;
+	}
+
+	private void ensureContactCapacity(int count) {
+		if (myContacts == null || myContacts.length < count) {
+			int oldLength = myContacts == null ? 0 : myContacts.length;
+			int capacity = Math.max(count, oldLength * 2);
+			myContacts = myContacts == null ? new int[capacity][] : Arrays.copyOf(myContacts, capacity);
+			myContactCounts = new int[capacity];
+			for (int i = oldLength; i < capacity; i++) {
+				myContacts[i] = new int[INITIAL_CONTACTS];
+			}
+		}
+	}
+
+	/**
+	 * Sets the pool that contact finding is split across for large levels
+	 * 
+	 * @param pool
+	 *            The pool to use, or null to always run on the calling thread
+	 */
+	public void setPool(ForkJoinPool pool) {
+		myPool = pool;
+	}
+
+	/**
+	 * Splits contact finding over ranges of actor indices
+	 */
+	private class ContactTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final int myFrom;
+		private final int myTo;
+
+		private ContactTask(int from, int to) {
+			myFrom = from;
+			myTo = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (myTo - myFrom <= TASK_GRAIN) {
+				findContacts(myFrom, myTo);
+			} else {
+				int middle = (myFrom + myTo) >>> 1;
+				invokeAll(new ContactTask(myFrom, middle), new ContactTask(middle, myTo));
+			}
+		}
+	}
+
 	/**
 	 * Sets new positions and velocities from the actor's nextValues
 	 * 
@@ -67,24 +195,32 @@ public class CollisionDetection {
 	 * Determines if a collision is occurring by checking for intersecting
 	 * Bounds.
 	 * 
-	 * @param a1
-	 * @param a2
+	 * @param b1
+	 * @param b2
 	 * @return True = Is Collision, False = No Collision
 	 */
-	private boolean isCollision(IPlayActor a1, IPlayActor a2) {
-		return a1.getBounds().intersects(a2.getBounds());
+	private boolean isCollision(Bounds b1, Bounds b2) {
+		return b1.intersects(b2);
 	}
 
 	/**
-	 * Finds the ordered pair that represents the center of an object. 
-	 * @param a1
+	 * Finds the horizontal coordinate of the center of an object. The center
+	 * is kept in doubles rather than a Point2D so that typing a contact does
+	 * not allocate.
+	 * @param b1
+	 * @return
+	 */
+	private double findCenterX(Bounds b1) {
+		return (b1.getWidth()) * .5 + b1.getMinX();
+	}
+
+	/**
+	 * Finds the vertical coordinate of the center of an object.
+	 * @param b1
 	 * @return
 	 */
-	private Point2D findCenter(IPlayActor a1) {
-		double centerX = (a1.getBounds().getWidth()) * .5 + a1.getBounds().getMinX();
-		double centerY = (a1.getBounds().getHeight()) * .5 + a1.getBounds().getMinY();
-		Point2D center = new Point2D(centerX, centerY);
-		return center;
+	private double findCenterY(Bounds b1) {
+		return (b1.getHeight()) * .5 + b1.getMinY();
 	}
 
 	/**
@@ -92,35 +228,32 @@ public class CollisionDetection {
 	 * does so by checking if a pair of actors overlaps more along the
 	 * horizontal or vertical axis
 	 * 
-	 * @param a1
-	 * @param a2
-	 * @return Type of collision-String
+	 * @param b1
+	 * @param b2
+	 * @return Type of collision
 	 */
-	private String getCollisionType(IPlayActor a1, IPlayActor a2) {
+	private CollisionType getCollisionType(Bounds b1, Bounds b2) {
 
-		double w = (0.5 * (a1.getBounds().getWidth() + a2.getBounds().getWidth()));
-		double h = (0.5 * (a1.getBounds().getHeight() + a2.getBounds().getHeight()));
+		double w = (0.5 * (b1.getWidth() + b2.getWidth()));
+		double h = (0.5 * (b1.getHeight() + b2.getHeight()));
 
-		Point2D a1Center = findCenter(a1);
-		Point2D a2Center = findCenter(a2);
-
-		double dx = (a1Center.getX() - a2Center.getX());
-		double dy = (a1Center.getY() - a2Center.getY());
+		double dx = (findCenterX(b1) - findCenterX(b2));
+		double dy = (findCenterY(b1) - findCenterY(b2));
 
 		double wy = w * dy;
 		double hx = h * dx;
 
 		if (wy > hx) {
 			if (wy > -hx) {
-				return TopCollision;
+				return CollisionType.TOP;
 			} else {
-				return SideCollision;
+				return CollisionType.SIDE;
 			}
 		} else {
 			if (wy > -hx) {
-				return SideCollision;
+				return CollisionType.SIDE;
 			} else {
-				return BottomCollision;
+				return CollisionType.BOTTOM;
 			}
 		}
 	}
@@ -130,33 +263,30 @@ public class CollisionDetection {
 	 * 
 	 * @param a1
 	 * @param a2
+	 * @param collisionType
 	 */
-	private void resolveCollision(IPlayActor a1, IPlayActor a2) {
-		String collisionType = getCollisionType(a1, a2);
-		if(!collisionType.equals(BottomCollision)){
-			resolutionReflection(a1,a2, collisionType);
+	private void resolveCollision(IPlayActor a1, IPlayActor a2, CollisionType collisionType) {
+		if(collisionType != CollisionType.BOTTOM){
+			signalCollision(a1,a2, collisionType);
 		}else if(a1.getVeloY()>=0){
-			resolutionReflection(a1,a2, collisionType);
+			signalCollision(a1,a2, collisionType);
 		}
 	}
 
 	
 	/**
-	 * Performs reflection on the collisionType
+	 * Sends a1 the reusable trigger for the collisionType, pointed at this pair
+	 * of actors
 	 * 
 	 * @param a1
 	 * @param a2
 	 * @param collisionType
 	 */
-	private void resolutionReflection(IPlayActor a1, IPlayActor a2, String collisionType){
-		try {
-			Class<?> className = Class.forName(TRIGGER_PREFIX + collisionType);
-			Constructor[] myConstructors = className.getConstructors();
-			CollisionTrigger myTrigger = (CollisionTrigger) myConstructors[0].newInstance(a1, a2,false);
-			a1.handleTrigger(myTrigger);
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
+	private void signalCollision(IPlayActor a1, IPlayActor a2, CollisionType collisionType){
+		CollisionTrigger myTrigger = myCollisionTriggers.get(collisionType);
+		myTrigger.setActors(a1, a2);
+		a1.handleTrigger(myTrigger);
+		myTrigger.setActors(null, null);
 	}
 	public PhysicsEngine getMyPhysicsEngine() {
 		return myPhysicsEngine;
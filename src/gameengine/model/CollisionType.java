@@ -0,0 +1,38 @@
+package gameengine.model;
+
+import gameengine.model.Triggers.BottomCollision;
+import gameengine.model.Triggers.CollisionTrigger;
+import gameengine.model.Triggers.SideCollision;
+import gameengine.model.Triggers.TopCollision;
+
+/**
+ * The kinds of collision that CollisionDetection can signal. Each type knows
+ * how to build the CollisionTrigger that it is reported with.
+ */
+public enum CollisionType {
+	SIDE {
+		@Override
+		public CollisionTrigger createTrigger() {
+			return new SideCollision(null, null, false);
+		}
+	},
+	TOP {
+		@Override
+		public CollisionTrigger createTrigger() {
+			return new TopCollision(null, null, false);
+		}
+	},
+	BOTTOM {
+		@Override
+		public CollisionTrigger createTrigger() {
+			return new BottomCollision(null, null, false);
+		}
+	};
+
+	/**
+	 * Creates an unbound trigger of this collision type
+	 *
+	 * @return A CollisionTrigger whose actors are set before each use
+	 */
+	public abstract CollisionTrigger createTrigger();
+}
@@ -0,0 +1,111 @@
+package gameengine.model;
+
+import java.util.Arrays;
+
+/**
+ * Delivers game engine events to the handlers registered for their kind.
+ * Handlers are kept in an array per GameEventType that is copied only when a
+ * handler is added or removed, so publishing an event does no lookup,
+ * reflection or allocation, and handlers may subscribe or unsubscribe while an
+ * event is being delivered.
+ */
+public class GameEventBus {
+
+	private static final IGameEventHandler[] NO_HANDLERS = new IGameEventHandler[0];
+
+	private IGameEventHandler[][] myHandlers;
+	private int myEventCount;
+
+	public GameEventBus() {
+		myHandlers = new IGameEventHandler[GameEventType.values().length][];
+		Arrays.fill(myHandlers, NO_HANDLERS);
+	}
+
+	/**
+	 * Registers a handler for one kind of event
+	 * 
+	 * @param type
+	 *            The kind of event to handle
+	 * @param handler
+	 *            The handler to call when the event is published
+	 */
+	public void subscribe(GameEventType type, IGameEventHandler handler) {
+		IGameEventHandler[] handlers = myHandlers[type.ordinal()];
+		IGameEventHandler[] updated = Arrays.copyOf(handlers, handlers.length + 1);
+		updated[handlers.length] = handler;
+		myHandlers[type.ordinal()] = updated;
+	}
+
+	/**
+	 * Removes a handler for one kind of event
+	 * 
+	 * @param type
+	 *            The kind of event the handler was registered for
+	 * @param handler
+	 *            The handler to remove
+	 */
+	public void unsubscribe(GameEventType type, IGameEventHandler handler) {
+		IGameEventHandler[] handlers = myHandlers[type.ordinal()];
+		for (int i = 0; i < handlers.length; i++) {
+			if (handlers[i] == handler) {
+				IGameEventHandler[] updated = new IGameEventHandler[handlers.length - 1];
+				System.arraycopy(handlers, 0, updated, 0, i);
+				System.arraycopy(handlers, i + 1, updated, i, handlers.length - i - 1);
+				myHandlers[type.ordinal()] = updated;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Removes every handler
+	 */
+	public void clear() {
+		Arrays.fill(myHandlers, NO_HANDLERS);
+	}
+
+	/**
+	 * Publishes an event that has no argument
+	 * 
+	 * @param type
+	 *            The kind of event
+	 */
+	public void publish(GameEventType type) {
+		publish(type, null);
+	}
+
+	/**
+	 * Calls every handler registered for the event's kind
+	 * 
+	 * @param type
+	 *            The kind of event
+	 * @param argument
+	 *            The event's argument
+	 */
+	public void publish(GameEventType type, Object argument) {
+		myEventCount++;
+		for (IGameEventHandler handler : myHandlers[type.ordinal()]) {
+			handler.handle(argument);
+		}
+	}
+
+	/**
+	 * Provides the number of events published since the last reset
+	 * 
+	 * @return The number of events published
+	 */
+	public int getEventCount() {
+		return myEventCount;
+	}
+
+	/**
+	 * Resets the event counter, returning its value before the reset
+	 * 
+	 * @return The number of events published since the last reset
+	 */
+	public int resetEventCount() {
+		int count = myEventCount;
+		myEventCount = 0;
+		return count;
+	}
+}
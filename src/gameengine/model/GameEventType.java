@@ -0,0 +1,30 @@
+package gameengine.model;
+
+/**
+ * The kinds of events the game engine sends to the game player. The argument
+ * published with each kind is noted next to it.
+ */
+public enum GameEventType {
+	/** An ITrigger to send to the game */
+	HANDLE_TRIGGER,
+	/** An Actor to add to the current Level */
+	ADD_ACTOR,
+	/** No argument */
+	WIN_GAME,
+	/** No argument */
+	LOSE_GAME,
+	/** No argument */
+	NEXT_LEVEL,
+	/** No argument; sent every step of a destination game */
+	UPDATE_CAMERA,
+	/** No argument; sent after a step added or removed Actors */
+	UPDATE_ACTORS,
+	/** The name of the sound file to play */
+	PLAY_SOUND,
+	/** The player's name to save the score under */
+	SAVE_GAME_SCORE,
+	/** No argument */
+	RESTART_GAME,
+	/** No argument */
+	LEAVE
+}
@@ -66,4 +66,26 @@ public interface IGameElement {
     public Bounds getBounds();
     public void setGame(IPlayGame game);
     public IPlayGame getGame();
+    
+    /**
+     * Sets the TriggerIndex to keep up to date when the IGameElement's Rules change
+     * 
+     * @param triggerIndex	The TriggerIndex of the running Game, or null
+     */
+    public void setTriggerIndex(TriggerIndex triggerIndex);
+
+    /**
+     * Sets the GameEventBus that the IGameElement's Actions publish events on
+     * 
+     * @param eventBus	The GameEventBus of the running Game, or null
+     */
+    public void setEventBus(GameEventBus eventBus);
+
+    /**
+     * Publishes an event to the running Game's player, if there is one
+     * 
+     * @param type	The kind of event
+     * @param argument	The event's argument, or null
+     */
+    public void publish(GameEventType type, Object argument);
 }
@@ -0,0 +1,15 @@
+package gameengine.model;
+
+/**
+ * Responds to one kind of GameEventType published on a GameEventBus
+ */
+public interface IGameEventHandler {
+
+	/**
+	 * Handles an event
+	 * 
+	 * @param argument
+	 *            The event's argument, or null for kinds without one
+	 */
+	public void handle(Object argument);
+}
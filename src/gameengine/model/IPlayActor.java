@@ -140,4 +140,69 @@ public interface IPlayActor extends IGameElement {
 	 * Sets the Actor's visibility
 	 */
 	public void setVisibility();
+
+	/**
+	 * Stores the Actor's position, velocity and heading in a slot of the given
+	 * KinematicsStore until it is detached
+	 * 
+	 * @param store
+	 *            The running level's KinematicsStore
+	 */
+	public void attachKinematics(KinematicsStore store);
+
+	/**
+	 * Moves the Actor's position, velocity and heading back out of its
+	 * KinematicsStore
+	 */
+	public void detachKinematics();
+
+	/**
+	 * Queues the Actor for the batch physics pass of its KinematicsStore
+	 * 
+	 * @return False if the Actor is not attached to a KinematicsStore
+	 */
+	public boolean queuePhysicsTick();
+
+	/**
+	 * Hands an Actor that has left its level back to the ActorPrototype it
+	 * was copied from, if any
+	 */
+	public void recycle();
+
+	/**
+	 * Keeps the Actor from being handed back to its ActorPrototype, because
+	 * another element still refers to it
+	 */
+	public void retain();
+
+	/**
+	 * Registers an index to notify when the Actor's states change
+	 * 
+	 * @param index
+	 *            The index of the Actor's Level
+	 */
+	public void addStateIndex(ActorStateIndex index);
+
+	/**
+	 * Stops notifying an index of the Actor's state changes
+	 * 
+	 * @param index
+	 *            The index of the Actor's former Level
+	 */
+	public void removeStateIndex(ActorStateIndex index);
+
+	/**
+	 * Provides the Actor's index in its Level's list of Actors
+	 * 
+	 * @return The last index the Level assigned, which may be stale
+	 */
+	public int getLevelSlot();
+
+	/**
+	 * Records the Actor's index in its Level's list of Actors
+	 * 
+	 * @param slot
+	 *            The Actor's index
+	 */
+	public void setLevelSlot(int slot);
 }
\ No newline at end of file
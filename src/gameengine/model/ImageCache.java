@@ -0,0 +1,141 @@
+package gameengine.model;
+
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javafx.scene.image.Image;
+
+/**
+ * Process-wide cache of decoded images keyed by resource name. Actors, Sprites
+ * and Levels share one decoded Image per resource, so spawning an Actor or
+ * advancing a Sprite never decodes the same file twice. The cache is bounded
+ * by the estimated memory of the decoded pixels and evicts the least recently
+ * used images first; ImageViews that already show an evicted image keep it.
+ */
+public class ImageCache {
+
+	private static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+	private static final int BYTES_PER_PIXEL = 4;
+	private static final String URL_SEPARATOR = ":";
+
+	private static final Map<String, Image> images = new LinkedHashMap<>(16, 0.75f, true);
+	private static long maxBytes = DEFAULT_MAX_BYTES;
+	private static long currentBytes;
+	private static long hits;
+	private static long misses;
+
+	private ImageCache() {
+	}
+
+	/**
+	 * Provides the decoded image for a resource, decoding it on first use
+	 *
+	 * @param name
+	 *            The image's resource name, e.g. "block.png"
+	 * @return The shared decoded Image
+	 */
+	public static Image getImage(String name) {
+		synchronized (images) {
+			Image image = images.get(name);
+			if (image != null) {
+				hits++;
+				return image;
+			}
+			misses++;
+		}
+		Image image = loadImage(name);
+		synchronized (images) {
+			Image existing = images.get(name);
+			if (existing != null) {
+				return existing;
+			}
+			images.put(name, image);
+			currentBytes += sizeOf(image);
+			evict();
+		}
+		return image;
+	}
+
+	/**
+	 * Decodes every image that is not already cached
+	 *
+	 * @param names
+	 *            Resource names of the images to decode
+	 */
+	public static void preload(Collection<String> names) {
+		for (String name : names) {
+			if (name != null) {
+				getImage(name);
+			}
+		}
+	}
+
+	/**
+	 * Sets the estimated memory the cache may hold before evicting images
+	 *
+	 * @param bytes
+	 *            The maximum number of bytes of decoded pixels
+	 */
+	public static void setMaxBytes(long bytes) {
+		synchronized (images) {
+			maxBytes = bytes;
+			evict();
+		}
+	}
+
+	/**
+	 * Removes every image from the cache
+	 */
+	public static void clear() {
+		synchronized (images) {
+			images.clear();
+			currentBytes = 0;
+		}
+	}
+
+	public static int size() {
+		synchronized (images) {
+			return images.size();
+		}
+	}
+
+	public static long getHits() {
+		synchronized (images) {
+			return hits;
+		}
+	}
+
+	public static long getMisses() {
+		synchronized (images) {
+			return misses;
+		}
+	}
+
+	private static Image loadImage(String name) {
+		if (!name.contains(URL_SEPARATOR)) {
+			InputStream stream = ImageCache.class.getClassLoader().getResourceAsStream(name);
+			if (stream != null) {
+				return new Image(stream);
+			}
+		}
+		return new Image(name);
+	}
+
+	/**
+	 * Drops least recently used images until the cache fits its budget,
+	 * always keeping the most recent one
+	 */
+	private static void evict() {
+		while (currentBytes > maxBytes && images.size() > 1) {
+			Map.Entry<String, Image> eldest = images.entrySet().iterator().next();
+			currentBytes -= sizeOf(eldest.getValue());
+			images.remove(eldest.getKey());
+		}
+	}
+
+	private static long sizeOf(Image image) {
+		return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+	}
+}
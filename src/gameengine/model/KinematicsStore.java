@@ -0,0 +1,181 @@
+package gameengine.model;
+
+import java.util.Arrays;
+
+/**
+ * Struct-of-arrays storage for the position, velocity and heading of every
+ * Actor in the running level. An attached Actor reads and writes its
+ * kinematics through its slot in these arrays, which lets the PhysicsEngine
+ * integrate every queued Actor in a single pass over primitive arrays instead
+ * of through per-Actor interface calls.
+ */
+public class KinematicsStore {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private double[] myX;
+	private double[] myY;
+	private double[] myVeloX;
+	private double[] myVeloY;
+	private double[] myHeading;
+	private int[] myPendingTicks;
+	private Actor[] myOwners;
+	private int[] myFreeSlots;
+	private int myFreeCount;
+	private int mySize;
+
+	public KinematicsStore() {
+		this(INITIAL_CAPACITY);
+	}
+
+	public KinematicsStore(int capacity) {
+		myX = new double[capacity];
+		myY = new double[capacity];
+		myVeloX = new double[capacity];
+		myVeloY = new double[capacity];
+		myHeading = new double[capacity];
+		myPendingTicks = new int[capacity];
+		myOwners = new Actor[capacity];
+		myFreeSlots = new int[capacity];
+	}
+
+	/**
+	 * Reserves a slot for an Actor, reusing released slots first
+	 *
+	 * @param owner
+	 *            The Actor that will read and write the slot
+	 * @return The slot index
+	 */
+	public int allocate(Actor owner) {
+		int slot;
+		if (myFreeCount > 0) {
+			slot = myFreeSlots[--myFreeCount];
+		} else {
+			if (mySize == myX.length) {
+				grow();
+			}
+			slot = mySize++;
+		}
+		myOwners[slot] = owner;
+		myPendingTicks[slot] = 0;
+		return slot;
+	}
+
+	/**
+	 * Returns a slot to the store
+	 *
+	 * @param slot
+	 *            The slot to release
+	 */
+	public void release(int slot) {
+		myOwners[slot] = null;
+		myPendingTicks[slot] = 0;
+		myFreeSlots[myFreeCount++] = slot;
+	}
+
+	/**
+	 * Releases every slot
+	 */
+	public void clear() {
+		Arrays.fill(myOwners, 0, mySize, null);
+		Arrays.fill(myPendingTicks, 0, mySize, 0);
+		mySize = 0;
+		myFreeCount = 0;
+	}
+
+	/**
+	 * Queues the slot for the next batch physics pass
+	 *
+	 * @param slot
+	 *            The slot to integrate
+	 */
+	public void queueTick(int slot) {
+		myPendingTicks[slot]++;
+	}
+
+	private void grow() {
+		int capacity = myX.length * 2;
+		myX = Arrays.copyOf(myX, capacity);
+		myY = Arrays.copyOf(myY, capacity);
+		myVeloX = Arrays.copyOf(myVeloX, capacity);
+		myVeloY = Arrays.copyOf(myVeloY, capacity);
+		myHeading = Arrays.copyOf(myHeading, capacity);
+		myPendingTicks = Arrays.copyOf(myPendingTicks, capacity);
+		myOwners = Arrays.copyOf(myOwners, capacity);
+		myFreeSlots = Arrays.copyOf(myFreeSlots, capacity);
+	}
+
+	public double getX(int slot) {
+		return myX[slot];
+	}
+
+	public void setX(int slot, double x) {
+		myX[slot] = x;
+	}
+
+	public double getY(int slot) {
+		return myY[slot];
+	}
+
+	public void setY(int slot, double y) {
+		myY[slot] = y;
+	}
+
+	public double getVeloX(int slot) {
+		return myVeloX[slot];
+	}
+
+	public void setVeloX(int slot, double veloX) {
+		myVeloX[slot] = veloX;
+	}
+
+	public double getVeloY(int slot) {
+		return myVeloY[slot];
+	}
+
+	public void setVeloY(int slot, double veloY) {
+		myVeloY[slot] = veloY;
+	}
+
+	public double getHeading(int slot) {
+		return myHeading[slot];
+	}
+
+	public void setHeading(int slot, double heading) {
+		myHeading[slot] = heading;
+	}
+
+	/**
+	 * Provides the number of slots in use or released, i.e. the upper bound
+	 * for a pass over the arrays
+	 *
+	 * @return The high-water mark of allocated slots
+	 */
+	public int size() {
+		return mySize;
+	}
+
+	double[] xArray() {
+		return myX;
+	}
+
+	double[] yArray() {
+		return myY;
+	}
+
+	double[] veloXArray() {
+		return myVeloX;
+	}
+
+	double[] veloYArray() {
+		return myVeloY;
+	}
+
+	int[] pendingTicksArray() {
+		return myPendingTicks;
+	}
+
+	Actor[] owners() {
+		return myOwners;
+	}
+}
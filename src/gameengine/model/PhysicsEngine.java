@@ -1,5 +1,10 @@
 package gameengine.model;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.thoughtworks.xstream.annotations.XStreamOmitField;
+
 /**
  * Physics Engine Class Handles calculating/assigning new positions based on
  * positional attributes and movement vectors Receives Actor object via movement
@@ -11,16 +16,17 @@ package gameengine.model;
 
 public class PhysicsEngine {
 
-	double nextXVelo;
-	double nextXPos;
-	double nextYVelo;
-	double nextYPos;
+	private static final int PARALLEL_THRESHOLD = 4096;
+	private static final int TASK_GRAIN = 1024;
+
 	private double horizontalForce = 5;
 	private double verticalForce = -5;
 	private double gravity = .11;
 	private double friction = -.05;
 	private double maxVelo = 7;
 	private double bounce = 2.5; // purely aesthetic
+	@XStreamOmitField
+	private ForkJoinPool myPool;
 
 	/**
 	 * Basic method for the physics engine
@@ -41,10 +47,10 @@ public class PhysicsEngine {
 	 * @param a1
 	 */
 	public void tick(IPlayActor a1) {
-		nextXVelo = applyForce(a1.getVeloX(), friction * a1.getVeloX());
-		nextXPos = applyForce(a1.getX(), nextXVelo);
-		nextYVelo = applyForce(a1.getVeloY(), gravity);
-		nextYPos = applyForce(a1.getY(), nextYVelo);
+		double nextXVelo = applyForce(a1.getVeloX(), friction * a1.getVeloX());
+		double nextXPos = applyForce(a1.getX(), nextXVelo);
+		double nextYVelo = applyForce(a1.getVeloY(), gravity);
+		double nextYPos = applyForce(a1.getY(), nextYVelo);
 		a1.setVeloX(nextXVelo);
 		a1.setX(bound(nextXPos));
 		a1.setVeloY(nextYVelo);
@@ -53,6 +59,88 @@ public class PhysicsEngine {
 		}
 		a1.setY(bound(nextYPos));
 	}
+
+	/**
+	 * Batch version of tick for every Actor that ApplyPhysics queued in the
+	 * store this frame. Integration runs in one pass over the store's arrays,
+	 * after which the queued Actors' ImageViews are moved to match. Each slot
+	 * is integrated independently, so large stores are split across the pool
+	 * without changing the result.
+	 * 
+	 * @param store
+	 */
+	public void integrate(KinematicsStore store) {
+		int size = store.size();
+		if (myPool != null && size >= PARALLEL_THRESHOLD) {
+			myPool.invoke(new IntegrateTask(store, 0, size));
+		} else {
+			integrate(store, 0, size);
+		}
+		int[] pendingTicks = store.pendingTicksArray();
+		Actor[] owners = store.owners();
+		for (int i = 0; i < size; i++) {
+			if (pendingTicks[i] > 0) {
+				pendingTicks[i] = 0;
+				owners[i].syncImageView();
+			}
+		}
+	}
+
+	private void integrate(KinematicsStore store, int from, int to) {
+		double[] x = store.xArray();
+		double[] y = store.yArray();
+		double[] veloX = store.veloXArray();
+		double[] veloY = store.veloYArray();
+		int[] pendingTicks = store.pendingTicksArray();
+		for (int i = from; i < to; i++) {
+			for (int t = pendingTicks[i]; t > 0; t--) {
+				double xVelo = veloX[i] + friction * veloX[i];
+				double xPos = x[i] + xVelo;
+				double yVelo = veloY[i] + gravity;
+				double yPos = y[i] + yVelo;
+				veloX[i] = xVelo;
+				x[i] = bound(xPos);
+				veloY[i] = yPos <= 0 ? 0 : yVelo;
+				y[i] = bound(yPos);
+			}
+		}
+	}
+
+	/**
+	 * Sets the pool that batch integration is split across for large levels
+	 * 
+	 * @param pool
+	 *            The pool to use, or null to always run on the calling thread
+	 */
+	public void setPool(ForkJoinPool pool) {
+		myPool = pool;
+	}
+
+	/**
+	 * Splits batch integration over ranges of store slots
+	 */
+	private class IntegrateTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final KinematicsStore myStore;
+		private final int myFrom;
+		private final int myTo;
+
+		private IntegrateTask(KinematicsStore store, int from, int to) {
+			myStore = store;
+			myFrom = from;
+			myTo = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (myTo - myFrom <= TASK_GRAIN) {
+				integrate(myStore, myFrom, myTo);
+			} else {
+				int middle = (myFrom + myTo) >>> 1;
+				invokeAll(new IntegrateTask(myStore, myFrom, middle), new IntegrateTask(myStore, middle, myTo));
+			}
+		}
+	}
 	
 	/**
 	 * This action applies a negative or positive horizontal force on an actor's velocity
@@ -61,7 +149,7 @@ public class PhysicsEngine {
 	 */
 	private void moveLeftRight(IPlayActor a1, boolean right) {
 		double localHorizForce = horizontalForce * (right ? 1 : -1);
-		nextXVelo = (applyForce(a1.getVeloX(), localHorizForce));
+		double nextXVelo = (applyForce(a1.getVeloX(), localHorizForce));
 		a1.setVeloX(nextXVelo);
 		a1.setX((applyForce(a1.getX(), nextXVelo)));
 	}
@@ -82,7 +170,7 @@ public class PhysicsEngine {
 	 */
 	private void moveUpDown(IPlayActor a1, boolean up) {
 		double localVerticalForce = verticalForce * (up ? 1 : -1);
-		nextYVelo = applyForce(a1.getVeloY(), localVerticalForce);
+		double nextYVelo = applyForce(a1.getVeloY(), localVerticalForce);
 		a1.setVeloY(nextYVelo);
 		a1.setY((applyForce(a1.getY(), nextYVelo)));
 	}
@@ -103,10 +191,10 @@ public class PhysicsEngine {
 	public void moveForwardBack(IPlayActor a1, boolean forward) {
 		double localHorizForce = horizontalForce * (forward ? 1 : -1);
 		double localVerticalForce = verticalForce * (forward ? 1 : -1);
-		nextXVelo = applyForce(a1.getVeloX(), localHorizForce * (Math.cos(Math.toRadians(a1.getHeading()))));
+		double nextXVelo = applyForce(a1.getVeloX(), localHorizForce * (Math.cos(Math.toRadians(a1.getHeading()))));
 		a1.setVeloX(nextXVelo);
 		a1.setX((applyForce(a1.getX(), nextXVelo)));
-		nextYVelo = applyForce(a1.getVeloY(), localVerticalForce * (Math.sin(Math.toRadians(a1.getHeading()))));
+		double nextYVelo = applyForce(a1.getVeloY(), localVerticalForce * (Math.sin(Math.toRadians(a1.getHeading()))));
 		a1.setVeloY(nextYVelo);
 		a1.setY((applyForce(a1.getY(), nextYVelo)) - gravity);
 	}
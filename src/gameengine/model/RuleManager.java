@@ -5,10 +5,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.thoughtworks.xstream.annotations.XStreamOmitField;
+
 import gameengine.model.Triggers.ITrigger;
 
 public class RuleManager {
 	private Map<String, List<Rule>> myRules;
+	@XStreamOmitField
+	private TriggerIndex myTriggerIndex;
+	@XStreamOmitField
+	private IGameElement myOwner;
 
 	public RuleManager() {
 		myRules = new HashMap<String, List<Rule>>();
@@ -24,10 +30,17 @@ public class RuleManager {
 			myBehaviors.add(newRule);
 			myRules.put(newRule.getMyTrigger().getMyKey(), myBehaviors);
 		}
+		if (myTriggerIndex != null && myRules.get(newRule.getMyTrigger().getMyKey()).size() == 1) {
+			myTriggerIndex.subscribe(newRule.getMyTrigger().getMyKey(), myOwner);
+		}
 	}
 	
     public void removeRule(Rule rule){
-    	myRules.get(rule.getMyTrigger().getMyKey()).remove(rule);
+    	List<Rule> myBehaviors = myRules.get(rule.getMyTrigger().getMyKey());
+    	myBehaviors.remove(rule);
+    	if (myTriggerIndex != null && myBehaviors.isEmpty()) {
+    		myTriggerIndex.unsubscribe(rule.getMyTrigger().getMyKey(), myOwner);
+    	}
     }
 	
     public void handleTrigger(ITrigger myTrigger) {
@@ -42,4 +55,15 @@ public class RuleManager {
     public Map<String, List<Rule>> getRules(){
     	return myRules;
     }    
-}
\ No newline at end of file
+
+    /**
+     * Keeps the given TriggerIndex up to date as rules are added and removed
+     * 
+     * @param triggerIndex	The index to update, or null to stop updating
+     * @param owner	The game element that owns these rules
+     */
+    public void setTriggerIndex(TriggerIndex triggerIndex, IGameElement owner) {
+    	myTriggerIndex = triggerIndex;
+    	myOwner = owner;
+    }
+}
@@ -0,0 +1,272 @@
+package gameengine.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javafx.geometry.Bounds;
+
+/**
+ * Uniform grid broad phase for collision detection. Actors are bucketed by the
+ * grid cells their bounds overlap so that only actors sharing a cell are handed
+ * to the narrow phase. The grid is rebuilt once per step; cell storage is
+ * reused between steps so a steady-state level does not allocate new buckets.
+ * Actors that are far outside the grid, or that would cover too many cells,
+ * go into a single overflow bucket instead, which every query checks.
+ * Once rebuilt, the grid is only read, so queries may run on several threads
+ * as long as each thread uses its own Candidates buffer.
+ */
+public class SpatialHash {
+
+	private static final double MIN_CELL_SIZE = 16;
+	private static final double CELL_SIZE_FACTOR = 2;
+	private static final int INITIAL_CAPACITY = 8;
+	private static final double MAX_CELL_INDEX = 1 << 20;
+	private static final double MAX_CELLS_PER_ACTOR = 256;
+
+	private double myCellSize;
+	private Map<Long, Cell> myCells;
+	private Bounds[] myBounds;
+	private boolean[] myOverflowed;
+	private Cell myOverflow;
+	private int myCount;
+
+	public SpatialHash() {
+		myCellSize = MIN_CELL_SIZE;
+		myCells = new HashMap<>();
+		myBounds = new Bounds[INITIAL_CAPACITY];
+		myOverflowed = new boolean[INITIAL_CAPACITY];
+		myOverflow = new Cell();
+	}
+
+	/**
+	 * Buckets every actor in the list by its current bounds. The cell size is
+	 * derived from the average size of the actors with finite bounds so that
+	 * most actors span one to four cells.
+	 *
+	 * @param actors
+	 *            Actors in the current level
+	 */
+	public void rebuild(List<IPlayActor> actors) {
+		int count = actors.size();
+		ensureCapacity(count);
+		myCount = count;
+		double totalSize = 0;
+		int sized = 0;
+		for (int i = 0; i < count; i++) {
+			myBounds[i] = actors.get(i).getBounds();
+			double size = Math.max(myBounds[i].getWidth(), myBounds[i].getHeight());
+			if (Double.isFinite(size)) {
+				totalSize += size;
+				sized++;
+			}
+		}
+		if (sized > 0) {
+			myCellSize = Math.max(MIN_CELL_SIZE, CELL_SIZE_FACTOR * totalSize / sized);
+		}
+		clearCells();
+		for (int i = 0; i < count; i++) {
+			myOverflowed[i] = isOverflow(myBounds[i]);
+			if (myOverflowed[i]) {
+				myOverflow.add(i);
+			} else {
+				insert(i, myBounds[i]);
+			}
+		}
+	}
+
+	/**
+	 * Finds the indices of every actor that shares at least one cell with the
+	 * actor at the given index, along with every actor in the overflow bucket.
+	 * An actor in the overflow bucket may touch any other, so every other actor
+	 * is its candidate. Indices are returned in ascending order so that
+	 * collisions are resolved in the same order as the list of actors.
+	 *
+	 * @param index
+	 *            Index of the actor in the list passed to rebuild
+	 * @param candidates
+	 *            Buffer to fill with the candidate indices
+	 */
+	public void findCandidates(int index, Candidates candidates) {
+		candidates.clear();
+		if (myOverflowed[index]) {
+			candidates.addAllBut(myCount, index);
+			return;
+		}
+		candidates.addAll(myOverflow, index);
+		Bounds bounds = myBounds[index];
+		int minX = toCell(bounds.getMinX());
+		int maxX = toCell(bounds.getMaxX());
+		int minY = toCell(bounds.getMinY());
+		int maxY = toCell(bounds.getMaxY());
+		for (int cx = minX; cx <= maxX; cx++) {
+			for (int cy = minY; cy <= maxY; cy++) {
+				Cell cell = myCells.get(key(cx, cy));
+				if (cell != null) {
+					candidates.addAll(cell, index);
+				}
+			}
+		}
+		candidates.sortUnique();
+	}
+
+	/**
+	 * Provides the bounds an actor had when the grid was last rebuilt
+	 *
+	 * @param index
+	 *            Index of the actor in the list passed to rebuild
+	 * @return The actor's bounds at the start of the step
+	 */
+	public Bounds getBounds(int index) {
+		return myBounds[index];
+	}
+
+	public double getCellSize() {
+		return myCellSize;
+	}
+
+	/**
+	 * States whether bounds cannot be bucketed: they are not finite, lie
+	 * beyond the cells whose coordinates fit in a key, or cover so many cells
+	 * that walking them would cost more than checking them against everyone.
+	 * Works in doubles so that no cell coordinate can overflow.
+	 */
+	private boolean isOverflow(Bounds bounds) {
+		double minX = Math.floor(bounds.getMinX() / myCellSize);
+		double maxX = Math.floor(bounds.getMaxX() / myCellSize);
+		double minY = Math.floor(bounds.getMinY() / myCellSize);
+		double maxY = Math.floor(bounds.getMaxY() / myCellSize);
+		if (!(minX >= -MAX_CELL_INDEX && maxX <= MAX_CELL_INDEX && minY >= -MAX_CELL_INDEX
+				&& maxY <= MAX_CELL_INDEX)) {
+			return true;
+		}
+		return (maxX - minX + 1) * (maxY - minY + 1) > MAX_CELLS_PER_ACTOR;
+	}
+
+	private void insert(int index, Bounds bounds) {
+		int minX = toCell(bounds.getMinX());
+		int maxX = toCell(bounds.getMaxX());
+		int minY = toCell(bounds.getMinY());
+		int maxY = toCell(bounds.getMaxY());
+		for (int cx = minX; cx <= maxX; cx++) {
+			for (int cy = minY; cy <= maxY; cy++) {
+				Long key = key(cx, cy);
+				Cell cell = myCells.get(key);
+				if (cell == null) {
+					cell = new Cell();
+					myCells.put(key, cell);
+				}
+				cell.add(index);
+			}
+		}
+	}
+
+	/**
+	 * Empties every bucket, dropping the ones that stayed empty for a whole
+	 * step so the map does not grow with every cell an actor ever visited.
+	 */
+	private void clearCells() {
+		Iterator<Cell> iterator = myCells.values().iterator();
+		while (iterator.hasNext()) {
+			Cell cell = iterator.next();
+			if (cell.size == 0) {
+				iterator.remove();
+			}
+			cell.size = 0;
+		}
+		myOverflow.size = 0;
+	}
+
+	private void ensureCapacity(int count) {
+		if (myBounds.length < count) {
+			myBounds = new Bounds[Math.max(count, myBounds.length * 2)];
+			myOverflowed = new boolean[myBounds.length];
+		}
+	}
+
+	private int toCell(double coordinate) {
+		return (int) Math.floor(coordinate / myCellSize);
+	}
+
+	private Long key(int cx, int cy) {
+		return (((long) cx) << 32) | (cy & 0xffffffffL);
+	}
+
+	/**
+	 * Growable bucket of actor indices
+	 */
+	private static class Cell {
+		private int[] members = new int[INITIAL_CAPACITY];
+		private int size;
+
+		private void add(int index) {
+			if (size == members.length) {
+				members = Arrays.copyOf(members, size * 2);
+			}
+			members[size++] = index;
+		}
+	}
+
+	/**
+	 * Reusable buffer of candidate actor indices for one query
+	 */
+	public static class Candidates {
+		private int[] myIndices = new int[INITIAL_CAPACITY];
+		private int mySize;
+
+		public int size() {
+			return mySize;
+		}
+
+		public int get(int i) {
+			return myIndices[i];
+		}
+
+		private void clear() {
+			mySize = 0;
+		}
+
+		private void addAll(Cell cell, int excluded) {
+			if (mySize + cell.size > myIndices.length) {
+				myIndices = Arrays.copyOf(myIndices, Math.max(mySize + cell.size, myIndices.length * 2));
+			}
+			for (int i = 0; i < cell.size; i++) {
+				if (cell.members[i] != excluded) {
+					myIndices[mySize++] = cell.members[i];
+				}
+			}
+		}
+
+		/**
+		 * Adds every index below the given count except one
+		 */
+		private void addAllBut(int count, int excluded) {
+			if (count > myIndices.length) {
+				myIndices = Arrays.copyOf(myIndices, Math.max(count, myIndices.length * 2));
+			}
+			for (int i = 0; i < count; i++) {
+				if (i != excluded) {
+					myIndices[mySize++] = i;
+				}
+			}
+		}
+
+		/**
+		 * Sorts the indices and drops the duplicates left by actors that
+		 * share more than one cell with the queried actor
+		 */
+		private void sortUnique() {
+			Arrays.sort(myIndices, 0, mySize);
+			int unique = 0;
+			for (int i = 0; i < mySize; i++) {
+				if (unique == 0 || myIndices[unique - 1] != myIndices[i]) {
+					myIndices[unique++] = myIndices[i];
+				}
+			}
+			mySize = unique;
+		}
+	}
+
+}
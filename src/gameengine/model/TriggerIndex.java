@@ -0,0 +1,174 @@
+package gameengine.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import gameengine.model.Triggers.ITrigger;
+
+/**
+ * Persistent map from trigger key to the game elements with at least one Rule
+ * for that key. The index is updated only when elements are added or removed
+ * or when their rules change, so dispatching a trigger does no rebuild work.
+ * Changes requested while a trigger is being dispatched are deferred until the
+ * dispatch finishes.
+ */
+public class TriggerIndex {
+
+	private Map<String, Set<IGameElement>> mySubscribers;
+	private List<Runnable> myPendingChanges;
+	private int myDispatchDepth;
+	private int myMutationCount;
+
+	public TriggerIndex() {
+		mySubscribers = new HashMap<>();
+		myPendingChanges = new ArrayList<>();
+	}
+
+	/**
+	 * Indexes every trigger key that the element has rules for
+	 *
+	 * @param gameElement
+	 *            The element to start sending triggers to
+	 */
+	public void addElement(IGameElement gameElement) {
+		for (Map.Entry<String, List<Rule>> entry : gameElement.getRules().entrySet()) {
+			if (!entry.getValue().isEmpty()) {
+				subscribe(entry.getKey(), gameElement);
+			}
+		}
+	}
+
+	/**
+	 * Removes the element from every trigger key it is indexed under
+	 *
+	 * @param gameElement
+	 *            The element to stop sending triggers to
+	 */
+	public void removeElement(IGameElement gameElement) {
+		for (String trigger : gameElement.getRules().keySet()) {
+			unsubscribe(trigger, gameElement);
+		}
+	}
+
+	/**
+	 * Registers the element as a receiver of triggers with the given key
+	 *
+	 * @param trigger
+	 *            The trigger key
+	 * @param gameElement
+	 *            The element with a Rule for the trigger
+	 */
+	public void subscribe(String trigger, IGameElement gameElement) {
+		if (myDispatchDepth > 0) {
+			myPendingChanges.add(() -> subscribe(trigger, gameElement));
+			return;
+		}
+		Set<IGameElement> subscribers = mySubscribers.get(trigger);
+		if (subscribers == null) {
+			subscribers = new LinkedHashSet<>();
+			mySubscribers.put(trigger, subscribers);
+		}
+		if (subscribers.add(gameElement)) {
+			myMutationCount++;
+		}
+	}
+
+	/**
+	 * Stops sending triggers with the given key to the element
+	 *
+	 * @param trigger
+	 *            The trigger key
+	 * @param gameElement
+	 *            The element that no longer has a Rule for the trigger
+	 */
+	public void unsubscribe(String trigger, IGameElement gameElement) {
+		if (myDispatchDepth > 0) {
+			myPendingChanges.add(() -> unsubscribe(trigger, gameElement));
+			return;
+		}
+		Set<IGameElement> subscribers = mySubscribers.get(trigger);
+		if (subscribers != null && subscribers.remove(gameElement)) {
+			myMutationCount++;
+			if (subscribers.isEmpty()) {
+				mySubscribers.remove(trigger);
+			}
+		}
+	}
+
+	/**
+	 * Sends the trigger to every element indexed under its key
+	 *
+	 * @param myTrigger
+	 *            The trigger to dispatch
+	 */
+	public void dispatch(ITrigger myTrigger) {
+		Set<IGameElement> subscribers = mySubscribers.get(myTrigger.getMyKey());
+		if (subscribers == null) {
+			return;
+		}
+		myDispatchDepth++;
+		try {
+			for (IGameElement gameElement : subscribers) {
+				gameElement.handleTrigger(myTrigger);
+			}
+		} finally {
+			myDispatchDepth--;
+			if (myDispatchDepth == 0) {
+				applyPendingChanges();
+			}
+		}
+	}
+
+	private void applyPendingChanges() {
+		while (!myPendingChanges.isEmpty()) {
+			List<Runnable> changes = new ArrayList<>(myPendingChanges);
+			myPendingChanges.clear();
+			changes.forEach(Runnable::run);
+		}
+	}
+
+	/**
+	 * Removes every element from the index
+	 */
+	public void clear() {
+		for (Set<IGameElement> subscribers : mySubscribers.values()) {
+			myMutationCount += subscribers.size();
+		}
+		mySubscribers.clear();
+	}
+
+	/**
+	 * Provides a read-only view of the trigger key to subscriber map
+	 *
+	 * @return The trigger key to subscriber map
+	 */
+	public Map<String, Set<IGameElement>> getTriggerMap() {
+		return Collections.unmodifiableMap(mySubscribers);
+	}
+
+	/**
+	 * Provides the number of subscriptions added or removed since the last
+	 * reset
+	 *
+	 * @return The number of index mutations
+	 */
+	public int getMutationCount() {
+		return myMutationCount;
+	}
+
+	/**
+	 * Resets the mutation counter, returning its value before the reset
+	 *
+	 * @return The number of index mutations since the last reset
+	 */
+	public int resetMutationCount() {
+		int count = myMutationCount;
+		myMutationCount = 0;
+		return count;
+	}
+}
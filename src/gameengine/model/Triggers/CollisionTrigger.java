@@ -27,9 +27,11 @@ public abstract class CollisionTrigger extends ITrigger {
 	
 	@Override
 	public boolean evaluate(ITrigger otherTrigger){
-		if(!resolvedCollisions.contains(((CollisionTrigger)otherTrigger).getMyCollisionActor())){
+		IPlayActor collisionActor = ((CollisionTrigger)otherTrigger).getMyCollisionActor();
+		if(!resolvedCollisions.contains(collisionActor)){
 			if(oneTime){
-				resolvedCollisions.add(((CollisionTrigger)otherTrigger).getMyCollisionActor());
+				collisionActor.retain();
+				resolvedCollisions.add(collisionActor);
 			}
 			return evaluateCollision(otherTrigger);
 		}
@@ -56,6 +58,18 @@ public abstract class CollisionTrigger extends ITrigger {
 	public void setMyCollisionActor(Actor myCollisionActor) {
 		this.myCollisionActor = myCollisionActor;
 	}
+
+	/**
+	 * Points the trigger at a new pair of actors so that one instance can be
+	 * reused for every collision of its type
+	 * 
+	 * @param mainActor
+	 * @param collisionActor
+	 */
+	public void setActors(IPlayActor mainActor, IPlayActor collisionActor) {
+		this.myMainActor = mainActor;
+		this.myCollisionActor = collisionActor;
+	}
 	
 	public boolean isOneTime() {
 		return oneTime;
@@ -5,7 +5,6 @@ import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Observable;
-import java.util.Observer;
 import java.util.ResourceBundle;
 
 import javax.xml.parsers.ParserConfigurationException;
@@ -88,7 +87,6 @@ public class BaseScreenController extends BranchScreenController {
 			if (file != null) {
 				c.saveForPlaying(file);
 			}
-			((Observable) myGameController.getGame()).addObserver((Observer) myGameController);
 			setUpHUDScreen();
 			
 		} catch (ParserConfigurationException | SAXException | IOException | TransformerException e) {
@@ -2,11 +2,8 @@ package gameplayer.controller;
 
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Observable;
-import java.util.Observer;
 import java.util.ResourceBundle;
 
 import javax.xml.parsers.ParserConfigurationException;
@@ -22,8 +19,9 @@ import gameengine.controller.Game;
 import gameengine.controller.IGame;
 import gameengine.controller.Level;
 import gameengine.model.Actor;
-import gameengine.model.IDisplayActor;
-import gameengine.model.IPlayActor;
+import gameengine.model.GameEventBus;
+import gameengine.model.GameEventType;
+import gameengine.model.Triggers.ITrigger;
 import gameplayer.view.GameScreen;
 import gameplayer.view.IGameScreen;
 import javafx.scene.ParallelCamera;
@@ -36,7 +34,7 @@ import javafx.scene.ParallelCamera;
  * @author cmt57
  */
 
-public class GameController extends Observable implements Observer, IGameController {
+public class GameController extends Observable implements IGameController {
 	private IGame model;
 	@XStreamOmitField
 	private IGameScreen view;
@@ -45,6 +43,8 @@ public class GameController extends Observable implements Observer, IGameControl
 	@XStreamOmitField
 	private static final String GAME_CONTROLLER_RESOURCE = "gameActions";
 	private PlayType myMode;
+	@XStreamOmitField
+	private GameEventBus myEventBus;
 
 	public GameController(Game game) {
 		this(game, PlayType.PLAY);
@@ -68,7 +68,34 @@ public class GameController extends Observable implements Observer, IGameControl
 	@Override
 	public void setGame(Game myGame) {
 		model = myGame;
-		((Observable) model).addObserver(this);
+		if (myEventBus != model.getEventBus()) {
+			myEventBus = model.getEventBus();
+			subscribe(myEventBus);
+		}
+		if (view != null) {
+			view.setEventBus(model.getEventBus());
+		}
+	}
+
+	/**
+	 * Registers a handler for every event the game and the game screen
+	 * publish. Each game's bus is only subscribed to once, however many
+	 * times the game is set.
+	 * 
+	 * @param eventBus
+	 */
+	private void subscribe(GameEventBus eventBus) {
+		eventBus.subscribe(GameEventType.HANDLE_TRIGGER, trigger -> model.handleTrigger((ITrigger) trigger));
+		eventBus.subscribe(GameEventType.ADD_ACTOR, actor -> addActor((Actor) actor));
+		eventBus.subscribe(GameEventType.WIN_GAME, none -> winGame());
+		eventBus.subscribe(GameEventType.LOSE_GAME, none -> loseGame());
+		eventBus.subscribe(GameEventType.NEXT_LEVEL, none -> nextLevel());
+		eventBus.subscribe(GameEventType.UPDATE_CAMERA, none -> updateCamera());
+		eventBus.subscribe(GameEventType.UPDATE_ACTORS, none -> updateActors());
+		eventBus.subscribe(GameEventType.PLAY_SOUND, key -> playSound((String) key));
+		eventBus.subscribe(GameEventType.SAVE_GAME_SCORE, name -> saveGameScore((String) name));
+		eventBus.subscribe(GameEventType.RESTART_GAME, none -> restartGame());
+		eventBus.subscribe(GameEventType.LEAVE, none -> leave());
 	}
 
 	/**
@@ -78,7 +105,7 @@ public class GameController extends Observable implements Observer, IGameControl
 	 */
 	public void setGameView(GameScreen myGameView) {
 		view = myGameView;
-		((Observable) view).addObserver(this);
+		view.setEventBus(model.getEventBus());
 	}
 
 
@@ -103,9 +130,7 @@ public class GameController extends Observable implements Observer, IGameControl
 		Level current = model.getCurrentLevel();
 		view.clearGame();
 		view.addBackground(current);
-		for (IPlayActor actor : model.getActors()) {
-			view.addActor((IDisplayActor) actor);
-		}
+		view.addActors(model.getActors());
 		this.toggleUnPause();
 		model.startGame();
 	}
@@ -141,9 +166,15 @@ public class GameController extends Observable implements Observer, IGameControl
 	 * @param name
 	 */
 
-	private void saveGameScore(String name) throws SAXException, IOException, TransformerException, ParserConfigurationException {
-		HighScoresController c = new HighScoresController(this.getGame().getInfo().getMyFile());
-		c.saveHighScore(getGame().getScores(), Arrays.asList(name.split(",")));
+	private void saveGameScore(String name) {
+		try {
+			HighScoresController c = new HighScoresController(this.getGame().getInfo().getMyFile());
+			c.saveHighScore(getGame().getScores(), Arrays.asList(name.split(",")));
+		} catch (SAXException | IOException | TransformerException | ParserConfigurationException e) {
+			Object[] args = {"showGameError", e};
+			setChanged();
+			notifyObservers(Arrays.asList(args));
+		}
 	}
 
 	/**
@@ -176,46 +207,21 @@ public class GameController extends Observable implements Observer, IGameControl
 	}
 
 	/**
-	 * Purges the game screen of dead actor displays
+	 * Purges the game screen of dead actor displays and shows the actors
+	 * added this step
 	 */
 	private void updateActors() {
-		for (IPlayActor a : model.getDeadActors()) {
-			view.removeActor((IDisplayActor) a);
-		}
-	}
-
-	@Override
-	public void update(Observable o, Object arg) {
-		List<Object> myList = (List<Object>) arg;
-		String methodName = (String) myList.get(0);
-		try {
-			if(methodName.equals("addActor")){ 
-				this.addActor((Actor)myList.get(1));
-			}else
-			if (myResources.getString(methodName).equals("null")) {
-				this.getClass().getDeclaredMethod(methodName).invoke(this);
-			} else if (myResources.getString(methodName).equals("String")) {
-				this.getClass().getDeclaredMethod(methodName, String.class).invoke(this, (String) myList.get(1));
-			} else {
-				Class<?> myClass = Class.forName(myResources.getString(methodName));
-				Object arg2 = myClass.cast(myList.get(1));
-				model.getClass().getDeclaredMethod(methodName, myClass).invoke(model, arg2);
-			}
-		} catch (IllegalArgumentException | SecurityException | ClassNotFoundException | IllegalAccessException
-				| InvocationTargetException | NoSuchMethodException e1) {
-			Object[] args = {"showGameError", e1};
-			setChanged();
-			notifyObservers(Arrays.asList(args));
-		}
+		view.removeActors(model.getDeadActors());
+		view.addActors(model.getAddedActors());
 	}
 
 	/**
-	 * Adds a new actor to the game and game screen
+	 * Adds a new actor to the game; the game screen shows it once the game
+	 * inserts it at the end of the step
 	 * @param a
 	 */
 	public void addActor(Actor a) {
 		model.addActor(a);
-		view.addActor(a);
 	}
 
 	@Override
@@ -249,7 +255,9 @@ public class GameController extends Observable implements Observer, IGameControl
 		togglePause();
 		view.restartGame();
 		ParserController parserController = new ParserController();
-		Game initialGame = parserController.loadforPlaying(new File(getGame().getInitialGameFile()));
+		IGame finishedGame = getGame();
+		Game initialGame = parserController.loadforPlaying(new File(finishedGame.getInitialGameFile()));
+		finishedGame.dispose();
 		setGame(initialGame);
 		initialize(0);
 		Object[] args = {"setUpHUDScreen", null};
@@ -271,9 +279,11 @@ public class GameController extends Observable implements Observer, IGameControl
 	}
 	
 	/**
-	 * Notifies the base screen to change screens on the stage
+	 * Releases the game's sounds and notifies the base screen to change
+	 * screens on the stage
 	 */
 	public void leave() {
+		getGame().dispose();
 		Object[] args = {"goToSplash", null};
 		setChanged();
 		notifyObservers(Arrays.asList(args));
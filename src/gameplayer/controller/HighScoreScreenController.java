@@ -2,6 +2,7 @@ package gameplayer.controller;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
 import java.util.Observable;
 
 import javax.xml.parsers.ParserConfigurationException;
@@ -14,6 +15,7 @@ import gamedata.controller.FileChooserController;
 import gamedata.controller.HighScoresController;
 import gameengine.controller.HighScoresKeeper;
 import gameengine.controller.IHighScoresKeeper;
+import gameengine.controller.ScoreEntry;
 import gameplayer.view.HighScoreScreen;
 import gameplayer.view.IHighScoreScreen;
 import javafx.stage.Stage;
@@ -49,7 +51,7 @@ public class HighScoreScreenController extends BranchScreenController {
 	 */
 	private void setUpScreen() {
 		this.myScreen = new HighScoreScreen();
-		this.myScreen.displayScores(myGameName, myDataController.getGameHighScores());
+		this.myScreen.displayScores(myGameName, getRankedScores());
 		((Observable) this.myScreen).addObserver(this);
 		setMyScreen(this.myScreen);
 	}
@@ -58,7 +60,14 @@ public class HighScoreScreenController extends BranchScreenController {
 	 * Ensures that the front end representation of the current scores matches the back end information
 	 */
 	private void updateScores() {
-		myScreen.displayScores(myGameName, myScores.getGameScores(myGameName));
+		myScreen.displayScores(myGameName, getRankedScores());
+	}
+
+	/**
+	 * Provides all of the game's score entries, in rank order
+	 */
+	private List<ScoreEntry> getRankedScores() {
+		return myDataController.getTopScores(myDataController.getScoreCount());
 	}
 
 	/**
@@ -72,9 +81,9 @@ public class HighScoreScreenController extends BranchScreenController {
 	 * Updates the model representation of a game's scores to reflect a purge in recorded information
 	 */
 	private void clearScores() {
-		myScores.clearGameScores(myDataController.getGameFile());
 		try {
 			myDataController.clearHighScores();
+			myScores.clearGameScores(myDataController.getGameFile());
 		} catch (SAXException | IOException | TransformerException | ParserConfigurationException e) {
 			this.myScreen.showError(e.getMessage());
 		}
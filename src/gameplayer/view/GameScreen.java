@@ -1,12 +1,19 @@
 package gameplayer.view;
 
-import java.util.Arrays;
-import java.util.Observable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.ResourceBundle;
+import java.util.Set;
 
 import gameengine.controller.Level;
 import gameengine.model.Actor;
+import gameengine.model.GameEventBus;
+import gameengine.model.GameEventType;
 import gameengine.model.IDisplayActor;
+import gameengine.model.IPlayActor;
+import gameengine.model.ImageCache;
 import gameengine.model.Triggers.ClickTrigger;
 import gameengine.model.Triggers.ITrigger;
 import gameengine.model.Triggers.KeyTrigger;
@@ -16,6 +23,7 @@ import javafx.beans.value.ObservableValue;
 import javafx.event.Event;
 import javafx.scene.Camera;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.SubScene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
@@ -36,7 +44,7 @@ import javafx.util.Callback;
  * @author cmt57
  */
 
-public class GameScreen extends Observable implements IGameScreen {
+public class GameScreen implements IGameScreen {
 	
 	private int BACKGROUND_OFFSET = 10;
 	private SubScene mySubscene;
@@ -45,6 +53,7 @@ public class GameScreen extends Observable implements IGameScreen {
 	private double myEndHorizontal;
 	private double myEndVertical;
 	private ResourceBundle myResources;
+	private GameEventBus myEventBus;
 	private static final String GAME_RESOURCE = "gameGUI";
 	private static final int SUB_HEIGHT = 500;
 
@@ -68,6 +77,10 @@ public class GameScreen extends Observable implements IGameScreen {
 		return mySubscene;
 	}
 
+	public void setEventBus(GameEventBus eventBus) {
+		myEventBus = eventBus;
+	}
+
 	/**
 	 * Will add a node to the screen's scene representing the given actor's
 	 * view.
@@ -85,9 +98,32 @@ public class GameScreen extends Observable implements IGameScreen {
 		mySubgroup.getChildren().remove(a.getImageView());
 	}
 
+	public void addActors(Collection<? extends IPlayActor> actors) {
+		if (actors.isEmpty()) {
+			return;
+		}
+		List<Node> nodes = new ArrayList<>(actors.size());
+		for (IPlayActor actor : actors) {
+			((Actor) actor).restoreUnpreparedImageView();
+			nodes.add(((IDisplayActor) actor).getImageView());
+		}
+		getMySubgroup().getChildren().addAll(nodes);
+	}
+
+	public void removeActors(Collection<? extends IPlayActor> actors) {
+		if (actors.isEmpty()) {
+			return;
+		}
+		Set<Node> nodes = new HashSet<>();
+		for (IPlayActor actor : actors) {
+			nodes.add(((IDisplayActor) actor).getImageView());
+		}
+		getMySubgroup().getChildren().removeAll(nodes);
+	}
+
 	
 	public void addBackground(Level level) {
-		Image image = new Image(getClass().getClassLoader().getResourceAsStream(level.getMyBackgroundImgName()));
+		Image image = ImageCache.getImage(level.getMyBackgroundImgName());
 		ImageView imageView = new ImageView(image);
 		imageView.setPreserveRatio(true); // amy added this to resize background to fit height
 		imageView.setFitHeight(level.getMyBackgroundHeight()); // amy also added this
@@ -126,9 +162,7 @@ public class GameScreen extends Observable implements IGameScreen {
 		} else if (e.getEventType() == KeyEvent.KEY_PRESSED) {
 			trigger = handleKeyPress(((KeyEvent) e).getCode());
 		}
-		setChanged();
-		Object[] methodArg = { "handleTrigger", trigger };
-		notifyObservers(Arrays.asList(methodArg));
+		myEventBus.publish(GameEventType.HANDLE_TRIGGER, trigger);
 	}
 
 	/**
@@ -237,13 +271,11 @@ public class GameScreen extends Observable implements IGameScreen {
 		endAlert.show();
 		endAlert.showingProperty().addListener((observable, oldValue, newValue) -> {
 			if (!newValue) {
-				Object[] args = {"leave", null};
 				if (endAlert.getResult() == ButtonType.YES) {
-					Object[] yesArgs = { "restartGame", null };
-					args = yesArgs;
+					myEventBus.publish(GameEventType.RESTART_GAME);
+				} else {
+					myEventBus.publish(GameEventType.LEAVE);
 				}
-				setChanged();
-				notifyObservers(Arrays.asList(args));
 			}
 		});
 		
@@ -262,9 +294,7 @@ public class GameScreen extends Observable implements IGameScreen {
 			public String call(ButtonType b) {
 				String answer = null;
 				if (b == ButtonType.OK) {
-					setChanged();
-					Object[] args = { myResources.getString("SaveScore"), dialog.getEditor().getText() };
-					notifyObservers(Arrays.asList(args));
+					myEventBus.publish(GameEventType.SAVE_GAME_SCORE, dialog.getEditor().getText());
 					answer = dialog.getEditor().getText();
 				}
 				return answer;
@@ -1,12 +1,10 @@
 package gameplayer.view;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Observable;
 import java.util.Observer;
-import java.util.TreeMap;
 
+import gameengine.controller.ScoreEntry;
 import gui.view.Screen;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
@@ -64,29 +62,15 @@ public class HighScoreScreen extends Screen implements Observer, IHighScoreScree
 
 	}
 
-	public void displayScores(String gameName, Map<String, Integer> scores) {
-		TreeMap<Integer, List<String>> sortedScores = new TreeMap<>();
-		// TODO magic number
-		for (String player : scores.keySet()) {
-			int score = scores.get(player);
-			if (sortedScores.keySet().contains(score)) {
-				sortedScores.get(score).add(player);
-			} else {
-				List<String> players = new ArrayList<>();
-				players.add(player);
-				sortedScores.put(score, players);
-			}
-		}
+	public void displayScores(String gameName, List<ScoreEntry> scores) {
 		myScoreBox.getChildren().clear();
 		myScoreBox.getChildren().add(new Text(gameName));
-		for (Integer score : sortedScores.descendingKeySet()) {
-			for (String player : sortedScores.get(score)) {
-				// TODO figure out font/styling specifics
-				HBox myH = new HBox(10);
-				myH.getChildren().add(stringToText(score.toString() + " - "));
-				myH.getChildren().add(stringToText(player));
-				myScoreBox.getChildren().add(myH);
-			}
+		for (ScoreEntry score : scores) {
+			// TODO figure out font/styling specifics
+			HBox myH = new HBox(10);
+			myH.getChildren().add(stringToText(score.getScore() + " - "));
+			myH.getChildren().add(stringToText(score.getPlayer()));
+			myScoreBox.getChildren().add(myH);
 		}
 	}
 
@@ -1,7 +1,11 @@
 package gameplayer.view;
 
+import java.util.Collection;
+
 import gameengine.controller.Level;
+import gameengine.model.GameEventBus;
 import gameengine.model.IDisplayActor;
+import gameengine.model.IPlayActor;
 import javafx.event.Event;
 import javafx.scene.Node;
 
@@ -61,6 +65,26 @@ public interface IGameScreen {
 	 */
 	public void removeActor(IDisplayActor a);
 
+	/**
+	 * Adds the nodes of several actors to the game's scene's root in one
+	 * change
+	 * @param actors
+	 */
+	public void addActors(Collection<? extends IPlayActor> actors);
+
+	/**
+	 * Removes the nodes of several actors from the game's scene's root in one
+	 * change
+	 * @param actors
+	 */
+	public void removeActors(Collection<? extends IPlayActor> actors);
+
+	/**
+	 * Sets the bus that the screen publishes the player's input and choices on
+	 * @param eventBus
+	 */
+	public void setEventBus(GameEventBus eventBus);
+
 	/**
 	 * Repositions the camera and clears the screen of game nodes
 	 */
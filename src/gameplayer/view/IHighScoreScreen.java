@@ -1,7 +1,8 @@
 package gameplayer.view;
 
-import java.util.Map;
+import java.util.List;
 
+import gameengine.controller.ScoreEntry;
 import gui.view.IScreen;
 
 /**
@@ -19,7 +20,10 @@ public interface IHighScoreScreen extends IScreen {
 	 */
 	public void initialize();
 
-	public void displayScores(String myGameName, Map<String, Integer> gameHighScores);
+	/**
+	 * Shows a game's score entries in the order given, which is their rank
+	 */
+	public void displayScores(String myGameName, List<ScoreEntry> rankedScores);
 
 
 }
\ No newline at end of file
@@ -3,12 +3,15 @@ package gui.view;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Observable;
+import java.util.Observer;
 
-import gamedata.controller.ParserController;
-import gameengine.controller.Game;
+import gamedata.GameCatalogEntry;
+import gamedata.controller.GameCatalog;
+import javafx.application.Platform;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
@@ -17,16 +20,21 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
 
+/**
+ * ComboBox of the games in the game directory. The games are listed from the
+ * GameCatalog at once, updated when its background scan finishes, and only
+ * the selected game is loaded.
+ */
 public class ComboBoxGame extends ComboBoxImageCell {
 
 	private static final int STANDARD_IMAGE_HEIGHT = 50;
-	private Map<String, Game> myGames;
+	private Map<String, GameCatalogEntry> myGames;
 	private static final int DEFAULT_HEIGHT = 60;
 	private static final int DEFAULT_WIDTH = 80;
 	
 	public ComboBoxGame(String promptText, String imageResource) {
 		super(promptText, imageResource, STANDARD_IMAGE_HEIGHT);
-		this.myGames = new HashMap<>();
+		this.myGames = new LinkedHashMap<>();
 		File directory = new File("gamefiles");
 		if (directory.listFiles() == null || directory.listFiles().length < 1) {
 			setChanged();
@@ -34,11 +42,17 @@ public class ComboBoxGame extends ComboBoxImageCell {
 			notifyObservers(Arrays.asList(args));
 		}
 		else {
-			getGames();
-			if (myGames.keySet().size() != 0) {
-				fillImageNames();
-				fillImageMap();
-			}
+			GameCatalog catalog = GameCatalog.getInstance();
+			setGames(catalog.getEntries());
+			catalog.addObserver(new Observer() {
+				@SuppressWarnings("unchecked")
+				@Override
+				public void update(Observable o, Object arg) {
+					catalog.deleteObserver(this);
+					Platform.runLater(() -> updateGames((List<GameCatalogEntry>) arg));
+				}
+			});
+			catalog.refresh();
 		}
 	}
 
@@ -59,23 +73,27 @@ public class ComboBoxGame extends ComboBoxImageCell {
 		
 	}
 
-	private void getGames() {
-		//TODO implement error checking
-		File gameFileDir = new File(selectionResource);
-		for(File gameFile: gameFileDir.listFiles()) {
-			if(!gameFile.isDirectory()  && gameFile.getName().contains(".xml")) {
-				ParserController parserController = new ParserController();
-				Game game = parserController.loadforPlaying(gameFile);
-				if (game != null)
-					myGames.put(gameFile.getPath(),game);
-			}
+	private void setGames(List<GameCatalogEntry> entries) {
+		myGames.clear();
+		imageNames.clear();
+		entries.forEach(entry -> myGames.put(entry.getPath(), entry));
+		fillImageNames();
+	}
+
+	/**
+	 * Shows the games found by the catalog's latest scan
+	 */
+	private void updateGames(List<GameCatalogEntry> entries) {
+		setGames(entries);
+		if (getComboBox() != null) {
+			updateNode();
 		}
 	}
 	
 	@Override
 	public void fillImageNames() {
-		for (Game game: myGames.values()) {
-			imageNames.add(game.getInfo().getMyImageName());
+		for (GameCatalogEntry entry: myGames.values()) {
+			imageNames.add(entry.getImageName());
 		}
 		
 	}
@@ -84,9 +102,9 @@ public class ComboBoxGame extends ComboBoxImageCell {
 	public Node getNodeForBox(String item) {
 		HBox hbox = new HBox();
 		VBox vbox = new VBox();
-		Game game = myGames.get(item);
-		vbox.getChildren().addAll(new Label(game.getInfo().getName() + "\n" + item), new Text(game.getInfo().getMyDescription()));
-		ImageView newIV = new ImageView(new Image(game.getInfo().getMyImageName()));
+		GameCatalogEntry entry = myGames.get(item);
+		vbox.getChildren().addAll(new Label(entry.getName() + "\n" + item), new Text(entry.getDescription()));
+		ImageView newIV = new ImageView(new Image(entry.getImageName(), true));
 		newIV.setFitWidth(DEFAULT_WIDTH);
 		newIV.setFitHeight(DEFAULT_HEIGHT);
 		hbox.getChildren().addAll(newIV, vbox);
@@ -0,0 +1,106 @@
+package gamedata;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.thoughtworks.xstream.io.xml.XppDriver;
+
+public class AutosaveJournalTest {
+
+	@Rule
+	public TemporaryFolder myFolder = new TemporaryFolder();
+
+	private File myJournalFile;
+	private AutosaveJournal myJournal;
+
+	@Before
+	public void setUp() {
+		myJournalFile = new File(myFolder.getRoot(), "journal");
+		myJournal = createJournal();
+	}
+
+	@Test
+	public void replaysLatestRecordUnderEachKey() throws IOException {
+		append("info", "first");
+		append("level/0", "level");
+		append("info", "second");
+		Map<String, Object> records = createJournal().replay();
+		assertEquals(Arrays.asList("level/0", "info"), new ArrayList<>(records.keySet()));
+		assertEquals("second", records.get("info"));
+	}
+
+	@Test
+	public void dropsTornRecordAndAppendsAfterLastCompleteOne() throws IOException {
+		append("level/0", "level");
+		long complete = myJournalFile.length();
+		append("level/1", "torn");
+		truncate(myJournalFile.length() - 3);
+		AutosaveJournal reopened = createJournal();
+		assertEquals(complete, reopened.length());
+		assertEquals(Arrays.asList("level/0"), new ArrayList<>(reopened.replay().keySet()));
+		Map<String, byte[]> payloads = new LinkedHashMap<>();
+		payloads.put("level/2", reopened.toPayload("after"));
+		reopened.append(payloads);
+		Map<String, Object> records = createJournal().replay();
+		assertEquals(Arrays.asList("level/0", "level/2"), new ArrayList<>(records.keySet()));
+	}
+
+	@Test
+	public void stopsAtRecordThatFailsItsCheck() throws IOException {
+		append("level/0", "level");
+		append("level/1", "corrupt");
+		try (RandomAccessFile file = new RandomAccessFile(myJournalFile, "rw")) {
+			file.seek(myJournalFile.length() - Long.BYTES - 1);
+			int value = file.read();
+			file.seek(myJournalFile.length() - Long.BYTES - 1);
+			file.write(~value);
+		}
+		assertEquals(Arrays.asList("level/0"), new ArrayList<>(createJournal().replay().keySet()));
+	}
+
+	@Test
+	public void compactsIntoBaseAndEmptiesJournal() throws IOException {
+		append("info", "edited");
+		List<Integer> project = Arrays.asList(1, 2, 3);
+		myJournal.compact(project);
+		AutosaveJournal reopened = createJournal();
+		assertTrue(reopened.replay().isEmpty());
+		assertEquals(0, reopened.length());
+		assertArrayEquals(project.toArray(), ((List<?>) reopened.loadBase()).toArray());
+		assertTrue(reopened.exists());
+		reopened.delete();
+		assertFalse(createJournal().exists());
+	}
+
+	private AutosaveJournal createJournal() {
+		return new AutosaveJournal(myFolder.getRoot(), XStreamSchema.create(new XppDriver()));
+	}
+
+	private void append(String key, Object object) throws IOException {
+		Map<String, byte[]> payloads = new LinkedHashMap<>();
+		payloads.put(key, myJournal.toPayload(object));
+		myJournal.append(payloads);
+	}
+
+	private void truncate(long length) throws IOException {
+		try (RandomAccessFile file = new RandomAccessFile(myJournalFile, "rw")) {
+			file.setLength(length);
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package gamedata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import authoringenvironment.model.IAuthoringActor;
+import gamedata.controller.CreatorController;
+import gamedata.controller.ParserController;
+import gameengine.controller.Game;
+import gameengine.controller.ILazyLevelList;
+import gameengine.controller.Level;
+
+public class LevelSectionsTest {
+
+	@Rule
+	public TemporaryFolder myFolder = new TemporaryFolder();
+
+	private ILazyLevelList myLevels;
+	private Game myGame;
+
+	@Before
+	public void setUp() throws IOException {
+		File source = myFolder.newFile("game.xml");
+		Files.write(source.toPath(), "<game/>".getBytes());
+		File snapshot = new File(myFolder.getRoot(), "game.snapshot");
+		new SnapshotCreator().save(SnapshotParserTest.createGame(), snapshot, source);
+		myGame = (Game) new SnapshotParser().loadLazily(snapshot, source);
+		myLevels = (ILazyLevelList) myGame.getLevels();
+	}
+
+	@Test
+	public void readsEachLevelWhenFirstAskedFor() {
+		assertEquals(3, myLevels.size());
+		assertFalse(myLevels.isLoaded(1));
+		Level level = myLevels.get(1);
+		assertEquals("Level 1", level.getName());
+		assertTrue(myLevels.isLoaded(1));
+		assertFalse(myLevels.isLoaded(0));
+		assertSame(level, myLevels.get(1));
+		assertNull(myGame.getInfo().getActorMap());
+	}
+
+	@Test
+	public void readsReleasedLevelAgainAsSaved() {
+		Level level = myLevels.get(2);
+		level.setName("Changed");
+		myLevels.release(2);
+		assertFalse(myLevels.isLoaded(2));
+		Level reloaded = myLevels.get(2);
+		assertNotSame(level, reloaded);
+		assertEquals("Level 2", reloaded.getName());
+		assertEquals(1, reloaded.getActors().size());
+		assertTrue(myLevels.isLoaded(2));
+	}
+
+	@Test
+	public void readsLevelOnceForConcurrentCallers() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Callable<Level>> tasks = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				tasks.add(() -> myLevels.get(0));
+			}
+			Level first = null;
+			for (Future<Level> result : executor.invokeAll(tasks)) {
+				if (first == null) {
+					first = result.get();
+				}
+				assertSame(first, result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void keepsActorMapWhenSavedMidGame() throws Exception {
+		myLevels.get(1);
+		myLevels.release(1);
+		File saved = new File(myFolder.getRoot(), "saved.xml");
+		new CreatorController(myGame).saveForPlaying(saved);
+		assertActorMap(new ParserController().loadWholeGame(saved));
+		assertActorMap((Game) new XMLParser().load(saved));
+	}
+
+	private void assertActorMap(Game game) {
+		Map<IAuthoringActor, List<IAuthoringActor>> actorMap = game.getInfo().getActorMap();
+		assertEquals(1, actorMap.size());
+		List<IAuthoringActor> copies = actorMap.values().iterator().next();
+		assertEquals(3, copies.size());
+		for (int i = 0; i < copies.size(); i++) {
+			assertSame(game.getLevels().get(i).getActors().get(0), copies.get(i));
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package gamedata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ScoreLogTest {
+
+	private static final String GAME = "Pong.xml";
+
+	@Rule
+	public TemporaryFolder myFolder = new TemporaryFolder();
+
+	private File myBaseFile;
+	private File myLogFile;
+
+	@Before
+	public void setUp() {
+		myBaseFile = new File(myFolder.getRoot(), "highscores.xml");
+		myLogFile = new File(myFolder.getRoot(), "highscores.log");
+	}
+
+	@Test
+	public void replaysSavedScores() throws IOException {
+		ScoreLog log = new ScoreLog(myBaseFile, myLogFile);
+		log.addScore(GAME, "amy", 10);
+		log.addScore(GAME, "amy", 30);
+		log.addScore(GAME, "blake", 20);
+		ScoreLog reopened = new ScoreLog(myBaseFile, myLogFile);
+		assertEquals(log.getGameScores(GAME), reopened.getGameScores(GAME));
+		assertEquals(3, reopened.getScoreCount(GAME));
+		assertEquals(2, reopened.getRank(GAME, "blake"));
+	}
+
+	@Test
+	public void dropsTornRecordAndAppendsAfterLastCompleteOne() throws IOException {
+		ScoreLog log = new ScoreLog(myBaseFile, myLogFile);
+		log.addScore(GAME, "amy", 10);
+		log.addScore(GAME, "blake", 20);
+		truncate(myLogFile, myLogFile.length() - 3);
+		ScoreLog reopened = new ScoreLog(myBaseFile, myLogFile);
+		assertEquals(1, reopened.getScoreCount(GAME));
+		assertNull(reopened.getGameScores(GAME).get("blake"));
+		reopened.addScore(GAME, "colette", 5);
+		assertEquals(2, new ScoreLog(myBaseFile, myLogFile).getScoreCount(GAME));
+	}
+
+	@Test
+	public void stopsAtRecordThatFailsItsCheck() throws IOException {
+		ScoreLog log = new ScoreLog(myBaseFile, myLogFile);
+		log.addScore(GAME, "amy", 10);
+		long first = myLogFile.length();
+		log.addScore(GAME, "blake", 20);
+		log.addScore(GAME, "colette", 30);
+		try (RandomAccessFile file = new RandomAccessFile(myLogFile, "rw")) {
+			file.seek(first + Integer.BYTES + 1);
+			file.write(~file.read());
+		}
+		assertEquals(1, new ScoreLog(myBaseFile, myLogFile).getScoreCount(GAME));
+	}
+
+	@Test
+	public void skipsRecordsAlreadyCompactedIntoTheBase() throws IOException {
+		ScoreLog log = new ScoreLog(myBaseFile, myLogFile);
+		log.addScore(GAME, "amy", 10);
+		log.clearGameScores(GAME);
+		log.addScore(GAME, "blake", 20);
+		File uncompacted = new File(myFolder.getRoot(), "uncompacted.log");
+		Files.copy(myLogFile.toPath(), uncompacted.toPath());
+		log.compact();
+		Files.copy(uncompacted.toPath(), myLogFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		ScoreLog reopened = new ScoreLog(myBaseFile, myLogFile);
+		Map<String, Integer> scores = reopened.getGameScores(GAME);
+		assertEquals(1, reopened.getScoreCount(GAME));
+		assertEquals(Integer.valueOf(20), scores.get("blake"));
+		assertNull(scores.get("amy"));
+		reopened.addScore(GAME, "colette", 30);
+		assertEquals(2, new ScoreLog(myBaseFile, myLogFile).getScoreCount(GAME));
+	}
+
+	private void truncate(File file, long length) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.setLength(length);
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package gamedata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import authoringenvironment.model.IAuthoringActor;
+import gameengine.controller.Game;
+import gameengine.controller.GameInfo;
+import gameengine.controller.Level;
+import gameengine.model.Actor;
+
+public class SnapshotParserTest {
+
+	private static final int LEVELS = 3;
+
+	@Rule
+	public TemporaryFolder myFolder = new TemporaryFolder();
+
+	private File mySource;
+	private File mySnapshot;
+
+	@Before
+	public void setUp() throws IOException {
+		mySource = myFolder.newFile("game.xml");
+		Files.write(mySource.toPath(), "<game/>".getBytes());
+		mySnapshot = new File(myFolder.getRoot(), "game.snapshot");
+		new SnapshotCreator().save(createGame(), mySnapshot, mySource);
+	}
+
+	@Test
+	public void loadsWholeGame() {
+		Game game = (Game) new SnapshotParser().load(mySnapshot, mySource);
+		assertEquals(LEVELS, game.getLevels().size());
+		assertEquals("Level 2", game.getLevels().get(2).getName());
+		Map<IAuthoringActor, List<IAuthoringActor>> actorMap = game.getInfo().getActorMap();
+		assertEquals(1, actorMap.size());
+		assertEquals(LEVELS, actorMap.values().iterator().next().size());
+	}
+
+	@Test
+	public void ignoresSnapshotOfAnotherVersionOfTheSource() throws IOException {
+		Files.write(mySource.toPath(), "<game></game>".getBytes());
+		assertNull(new SnapshotParser().load(mySnapshot, mySource));
+	}
+
+	@Test
+	public void rejectsSectionTableWithNoSections() throws IOException {
+		writeCount(0);
+		assertNull(new SnapshotParser().load(mySnapshot, mySource));
+	}
+
+	@Test
+	public void rejectsSectionTableLargerThanTheFile() throws IOException {
+		writeCount(Integer.MAX_VALUE);
+		assertNull(new SnapshotParser().load(mySnapshot, mySource));
+		writeCount(-1);
+		assertNull(new SnapshotParser().load(mySnapshot, mySource));
+	}
+
+	@Test
+	public void rejectsSectionsOutOfOrder() throws IOException {
+		long first = readOffset(0);
+		writeOffset(1, first - 1);
+		assertNull(new SnapshotParser().load(mySnapshot, mySource));
+	}
+
+	@Test
+	public void rejectsSectionStartingInsideTheTable() throws IOException {
+		writeOffset(LEVELS + 1, mySnapshot.length());
+		assertNull(new SnapshotParser().load(mySnapshot, mySource));
+	}
+
+	@Test
+	public void rejectsSectionStartingInsideTheHeader() throws IOException {
+		writeOffset(0, SnapshotCreator.HEADER_BYTES - 1);
+		assertNull(new SnapshotParser().load(mySnapshot, mySource));
+	}
+
+	@Test
+	public void loadsAfterRewritingTheSameTable() throws IOException {
+		writeOffset(1, readOffset(1));
+		assertNotNull(new SnapshotParser().load(mySnapshot, mySource));
+		assertTrue(new SnapshotParser().isCurrent(mySnapshot, mySource));
+	}
+
+	/**
+	 * Creates a game whose levels each hold a copy of one reference actor
+	 */
+	static Game createGame() {
+		Actor refActor = new Actor();
+		refActor.setID(1);
+		List<IAuthoringActor> copies = new ArrayList<>();
+		List<Level> levels = new ArrayList<>();
+		for (int i = 0; i < LEVELS; i++) {
+			Level level = new Level();
+			level.setName("Level " + i);
+			Actor copy = new Actor();
+			copy.setID(1);
+			level.addActor(copy);
+			copies.add(copy);
+			levels.add(level);
+		}
+		Map<IAuthoringActor, List<IAuthoringActor>> actorMap = new HashMap<>();
+		actorMap.put(refActor, copies);
+		return new Game(new GameInfo(actorMap), levels);
+	}
+
+	private long tableStart() {
+		return mySnapshot.length() - Integer.BYTES - (long) (LEVELS + SnapshotCreator.FIRST_LEVEL_SECTION) * Long.BYTES;
+	}
+
+	private long readOffset(int section) throws IOException {
+		try (RandomAccessFile file = new RandomAccessFile(mySnapshot, "r")) {
+			file.seek(tableStart() + section * Long.BYTES);
+			return file.readLong();
+		}
+	}
+
+	private void writeOffset(int section, long offset) throws IOException {
+		long position = tableStart() + section * Long.BYTES;
+		try (RandomAccessFile file = new RandomAccessFile(mySnapshot, "rw")) {
+			file.seek(position);
+			file.writeLong(offset);
+		}
+	}
+
+	private void writeCount(int count) throws IOException {
+		try (RandomAccessFile file = new RandomAccessFile(mySnapshot, "rw")) {
+			file.seek(mySnapshot.length() - Integer.BYTES);
+			file.writeInt(count);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package gamedata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.io.xml.XppDriver;
+
+import gameengine.controller.Game;
+import gameengine.controller.Level;
+import gameengine.model.Actor;
+import gameengine.model.ActorState;
+
+public class XStreamSchemaTest {
+
+	private static final String LEGACY_GAME = "<gameengine.controller.Game>"
+			+ "<obs/>"
+			+ "<activeTriggers><entry><string>tick</string><set><gameengine.model.Actor/></set></entry></activeTriggers>"
+			+ "<levels><gameengine.controller.Level>"
+			+ "<obs><gameengine.controller.Game><currentActors><gameengine.model.Actor/></currentActors></gameengine.controller.Game></obs>"
+			+ "<myActors reference=\"../obs/gameengine.controller.Game/currentActors\"/>"
+			+ "</gameengine.controller.Level><gameengine.controller.Level>"
+			+ "<myActors><gameengine.model.Actor reference=\"../../../../activeTriggers/entry/set/gameengine.model.Actor\"/></myActors>"
+			+ "</gameengine.controller.Level></levels>"
+			+ "</gameengine.controller.Game>";
+
+	@Test
+	public void followsLegacyPathsThroughObservers() {
+		Game game = readLegacy();
+		Level level = game.getLevels().get(0);
+		assertEquals(1, level.getActors().size());
+		assertEquals(0, level.countObservers());
+		assertEquals(0, game.countObservers());
+	}
+
+	@Test
+	public void followsLegacyPathsThroughRemovedFields() {
+		Game game = readLegacy();
+		assertEquals(1, game.getLevels().get(1).getActors().size());
+	}
+
+	@Test
+	public void roundTripsSharedObjectsInTheCurrentSchema() {
+		Game game = readLegacy();
+		XStream xStream = XStreamSchema.create(new XppDriver());
+		Game copy = (Game) xStream.fromXML(xStream.toXML(game));
+		assertEquals(1, copy.getLevels().get(0).getActors().size());
+		assertEquals(1, copy.getLevels().get(1).getActors().size());
+		assertEquals(0, copy.getLevels().get(0).countObservers());
+	}
+
+	@Test
+	public void leavesOutDefaultFieldsAndRestoresThem() {
+		XStream xStream = XStreamSchema.create(new XppDriver());
+		Actor actor = new Actor();
+		actor.setX(12);
+		actor.setScaleX(-1);
+		String xml = xStream.toXML(actor);
+		assertFalse(xml.contains("<y>"));
+		assertFalse(xml.contains("<myOpacity>"));
+		assertFalse(xml.contains("<myStates"));
+		assertTrue(xml.contains("<myScaleX>-1.0</myScaleX>"));
+		Actor copy = (Actor) xStream.fromXML(xml);
+		assertEquals(12, copy.getX(), 0);
+		assertEquals(0, copy.getY(), 0);
+		assertEquals(1, copy.getOpacity(), 0);
+		assertEquals(-1, copy.getScaleX(), 0);
+		assertEquals(1, copy.getScaleY(), 0);
+		assertTrue(copy.getRules().isEmpty());
+		assertTrue(copy.getAttributeMap().isEmpty());
+		copy.addState(ActorState.MAIN);
+		assertTrue(copy.checkState(ActorState.MAIN));
+	}
+
+	private Game readLegacy() {
+		return (Game) XStreamSchema.createLegacy(new XppDriver()).fromXML(LEGACY_GAME);
+	}
+}
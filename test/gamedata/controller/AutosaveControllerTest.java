@@ -0,0 +1,75 @@
+package gamedata.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import authoringenvironment.model.IAuthoringActor;
+import gameengine.controller.Game;
+import gameengine.controller.GameInfo;
+import gameengine.controller.IGame;
+import gameengine.controller.Level;
+import gameengine.model.Actor;
+
+public class AutosaveControllerTest {
+
+	@Rule
+	public TemporaryFolder myFolder = new TemporaryFolder();
+
+	@Test
+	public void restoresEditsMadeSinceLastAutosave() throws Exception {
+		Game game = createGame();
+		AutosaveController autosave = new AutosaveController(game, myFolder.getRoot());
+		autosave.autosave();
+		Actor actor = (Actor) game.getLevels().get(0).getActors().get(0);
+		actor.setName("Edited");
+		autosave.autosave();
+		AutosaveController reopened = new AutosaveController(createGame(), myFolder.getRoot());
+		assertTrue(reopened.hasAutosave());
+		IGame restored = reopened.restore().get();
+		assertEquals("Pong.xml", restored.getInfo().getMyFile());
+		assertEquals("Edited", ((Actor) restored.getLevels().get(0).getActors().get(0)).getName());
+		assertEquals(1, restored.getInfo().getActorMap().size());
+	}
+
+	@Test
+	public void deletesAutosavesWhenDiscardedOrClosed() throws Exception {
+		AutosaveController autosave = new AutosaveController(createGame(), myFolder.getRoot());
+		autosave.autosave();
+		autosave.discard();
+		assertNull(autosave.restore().get());
+		assertFalse(autosave.hasAutosave());
+		autosave.autosave();
+		assertTrue(autosave.restore().get() != null);
+		autosave.close();
+		assertFalse(new AutosaveController(createGame(), myFolder.getRoot()).hasAutosave());
+	}
+
+	private Game createGame() {
+		Actor refActor = new Actor();
+		refActor.setID(1);
+		Actor copy = new Actor();
+		copy.setID(1);
+		Level level = new Level();
+		level.addActor(copy);
+		List<IAuthoringActor> copies = new ArrayList<>();
+		copies.add(copy);
+		Map<IAuthoringActor, List<IAuthoringActor>> actorMap = new HashMap<>();
+		actorMap.put(refActor, copies);
+		GameInfo info = new GameInfo(actorMap);
+		info.setMyFile("Pong.xml");
+		List<Level> levels = new ArrayList<>();
+		levels.add(level);
+		return new Game(info, levels);
+	}
+}
@@ -0,0 +1,78 @@
+package gameengine.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LeaderboardTest {
+
+	private static final int ENTRIES = 2000;
+
+	@Test
+	public void ranksHigherScoresFirstAndTiesByOrder() {
+		Leaderboard leaderboard = new Leaderboard();
+		ScoreEntry first = new ScoreEntry("amy", 10, 0);
+		ScoreEntry best = new ScoreEntry("blake", 30, 1);
+		ScoreEntry tied = new ScoreEntry("colette", 10, 2);
+		leaderboard.add(first);
+		leaderboard.add(best);
+		leaderboard.add(tied);
+		assertEquals(1, leaderboard.getRank(best));
+		assertEquals(2, leaderboard.getRank(first));
+		assertEquals(3, leaderboard.getRank(tied));
+		assertEquals(0, leaderboard.getRank("dana"));
+	}
+
+	@Test
+	public void keepsEachPlayersBestEntry() {
+		Leaderboard leaderboard = new Leaderboard();
+		leaderboard.add(new ScoreEntry("amy", 10, 0));
+		leaderboard.add(new ScoreEntry("blake", 20, 1));
+		leaderboard.add(new ScoreEntry("amy", 40, 2));
+		leaderboard.add(new ScoreEntry("amy", 5, 3));
+		assertEquals(1, leaderboard.getRank("amy"));
+		assertEquals(2, leaderboard.getRank("blake"));
+		assertEquals(4, leaderboard.size());
+	}
+
+	@Test
+	public void matchesSortedEntriesAtEveryRank() {
+		Random random = new Random(21);
+		Leaderboard leaderboard = new Leaderboard();
+		List<ScoreEntry> sorted = new ArrayList<>();
+		for (int i = 0; i < ENTRIES; i++) {
+			ScoreEntry entry = new ScoreEntry("player" + random.nextInt(100), random.nextInt(500), i);
+			leaderboard.add(entry);
+			sorted.add(entry);
+		}
+		sorted.sort(Comparator.comparingInt(ScoreEntry::getScore).reversed()
+				.thenComparingLong(ScoreEntry::getSequence));
+		assertEquals(ENTRIES, leaderboard.size());
+		assertEquals(sorted, leaderboard.getRange(1, ENTRIES));
+		for (int rank = 1; rank <= ENTRIES; rank++) {
+			assertEquals(rank, leaderboard.getRank(sorted.get(rank - 1)));
+		}
+		for (int from = 1; from <= ENTRIES; from += 37) {
+			assertEquals(sorted.subList(from - 1, Math.min(ENTRIES, from + 9)), leaderboard.getRange(from, 10));
+		}
+		assertEquals(sorted.subList(0, 5), leaderboard.getTop(5));
+	}
+
+	@Test
+	public void providesNothingOutsideTheRanking() {
+		Leaderboard leaderboard = new Leaderboard();
+		assertTrue(leaderboard.getTop(3).isEmpty());
+		leaderboard.add(new ScoreEntry("amy", 10, 0));
+		assertTrue(leaderboard.getRange(0, 3).isEmpty());
+		assertTrue(leaderboard.getRange(2, 3).isEmpty());
+		assertTrue(leaderboard.getRange(1, 0).isEmpty());
+		assertEquals(1, leaderboard.getRange(1, 3).size());
+		assertEquals(0, leaderboard.getRank(new ScoreEntry("amy", 10, 0)));
+	}
+}
@@ -0,0 +1,32 @@
+package gameengine.model;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.io.xml.XppDriver;
+
+import gamedata.XStreamSchema;
+
+public class ActorKinematicsTest {
+
+	@Test
+	public void savesKinematicsHeldInTheStore() {
+		Actor actor = new Actor();
+		actor.attachKinematics(new KinematicsStore());
+		actor.setX(120);
+		actor.setY(-40);
+		actor.setVeloX(3);
+		actor.setVeloY(-7);
+		actor.setHeading(90);
+		XStream xStream = XStreamSchema.create(new XppDriver());
+		Actor copy = (Actor) xStream.fromXML(xStream.toXML(actor));
+		assertEquals(120, copy.getX(), 0);
+		assertEquals(-40, copy.getY(), 0);
+		assertEquals(3, copy.getVeloX(), 0);
+		assertEquals(-7, copy.getVeloY(), 0);
+		assertEquals(90, copy.getHeading(), 0);
+		assertEquals(120, actor.getX(), 0);
+	}
+}
@@ -0,0 +1,86 @@
+package gameengine.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import gameengine.model.Actions.Destroy;
+import gameengine.model.Triggers.SideCollision;
+import javafx.scene.image.ImageView;
+
+public class ActorPrototypeTest {
+
+	private Actor myTemplate;
+	private Actor myOther;
+	private ActorPrototype myPrototype;
+
+	@Before
+	public void setUp() {
+		myTemplate = new Actor();
+		myTemplate.setID(1);
+		myOther = new Actor();
+		myOther.setID(2);
+		myTemplate.addRule(new Rule(new SideCollision(myTemplate, myOther, true), new Destroy(myTemplate)));
+		myPrototype = new ActorPrototype(myTemplate);
+	}
+
+	@Test
+	public void reusesPooledCopyWithItsImageView() {
+		Actor copy = myPrototype.acquire();
+		copy.getImageView().setOpacity(0.5);
+		copy.recycle();
+		Actor reused = myPrototype.acquire();
+		assertSame(copy, reused);
+		assertSame(copy.getImageView(), reused.getImageView());
+		assertEquals(myTemplate.getOpacity(), reused.getImageView().getOpacity(), 0);
+		assertEquals(1, myPrototype.getHits());
+	}
+
+	@Test
+	public void showsAcquiredCopiesInTheirImageViews() {
+		Actor copy = myPrototype.acquire();
+		ImageView view = copy.getImageView();
+		copy.restoreUnpreparedImageView();
+		assertSame(view, copy.getImageView());
+		copy.getImageView().setVisible(false);
+		copy.recycle();
+		Actor reused = myPrototype.acquire();
+		reused.restoreUnpreparedImageView();
+		assertSame(view, reused.getImageView());
+		assertTrue(view.isVisible());
+	}
+
+	@Test
+	public void rebuildsRulesOfPooledCopy() {
+		Actor copy = myPrototype.acquire();
+		Rule rule = getOnlyRule(copy);
+		copy.recycle();
+		Actor reused = myPrototype.acquire();
+		Rule rebuilt = getOnlyRule(reused);
+		assertNotSame(rule, rebuilt);
+		assertSame(reused, ((SideCollision) rebuilt.getMyTrigger()).getMyMainActor());
+	}
+
+	@Test
+	public void keepsCopiesResolvedByOneTimeCollisionsOutOfThePool() {
+		Actor copy = myPrototype.acquire();
+		SideCollision trigger = new SideCollision(myOther, myOther, true);
+		trigger.evaluate(new SideCollision(myOther, copy));
+		copy.recycle();
+		assertEquals(0, myPrototype.getPoolSize());
+		assertNotSame(copy, myPrototype.acquire());
+	}
+
+	private Rule getOnlyRule(Actor actor) {
+		List<Rule> rules = actor.getRules().get(new SideCollision(myTemplate, myOther).getMyKey());
+		assertEquals(1, rules.size());
+		assertTrue(actor.getRules().size() == 1);
+		return rules.get(0);
+	}
+}
@@ -0,0 +1,140 @@
+package gameengine.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+
+public class SpatialHashTest {
+
+	private SpatialHash myHash;
+	private List<IPlayActor> myActors;
+
+	@Before
+	public void setUp() {
+		myHash = new SpatialHash();
+		myActors = new ArrayList<>();
+	}
+
+	@Test
+	public void findsActorsSharingACell() {
+		addActor(0, 0, 10, 10);
+		addActor(5, 5, 10, 10);
+		addActor(500, 500, 10, 10);
+		myHash.rebuild(myActors);
+		assertCandidates(0, 1);
+		assertCandidates(1, 0);
+		assertCandidates(2);
+	}
+
+	@Test
+	public void findsActorsAcrossCellBoundaries() {
+		addActor(-1, -1, 2, 2);
+		addActor(-3, 0.5, 2, 2);
+		addActor(0.5, -3, 2, 2);
+		myHash.rebuild(myActors);
+		assertCandidates(0, 1, 2);
+	}
+
+	@Test
+	public void listsEachCandidateOnceInOrder() {
+		addActor(0, 0, 100, 100);
+		addActor(0, 0, 100, 100);
+		addActor(40, 40, 100, 100);
+		myHash.rebuild(myActors);
+		assertCandidates(2, 0, 1);
+	}
+
+	@Test
+	public void handlesActorsFarOutsideTheGrid() {
+		addActor(0, 0, 10, 10);
+		addActor(5.43E20, 100, 10, 10);
+		addActor(-2.6E24, -2.6E24, 10, 10);
+		myHash.rebuild(myActors);
+		assertCandidates(0, 1, 2);
+		assertCandidates(1, 0, 2);
+		assertCandidates(2, 0, 1);
+	}
+
+	@Test
+	public void handlesActorsAtTheIntegerLimit() {
+		addActor(Integer.MAX_VALUE * 16.0, 0, 32, 32);
+		addActor(Integer.MIN_VALUE * 16.0, 0, 32, 32);
+		addActor(0, 0, 10, 10);
+		myHash.rebuild(myActors);
+		assertCandidates(2, 0, 1);
+	}
+
+	@Test
+	public void handlesActorsCoveringTooManyCells() {
+		for (int i = 0; i < 63; i++) {
+			addActor(5000 + 100 * i, 5000, 1, 1);
+		}
+		addActor(0, 0, 1000, 1000);
+		addActor(0, 0, 1, 1);
+		myHash.rebuild(myActors);
+		assertCandidates(0, 63);
+		assertCandidates(64, 63);
+		SpatialHash.Candidates candidates = new SpatialHash.Candidates();
+		myHash.findCandidates(63, candidates);
+		assertEquals(64, candidates.size());
+	}
+
+	@Test
+	public void handlesBoundsThatAreNotFinite() {
+		addActor(0, 0, 10, 10);
+		addActor(Double.NaN, 0, 10, 10);
+		addActor(Double.NEGATIVE_INFINITY, 0, Double.POSITIVE_INFINITY, 10);
+		myHash.rebuild(myActors);
+		assertCandidates(0, 1, 2);
+	}
+
+	@Test
+	public void sizesCellsFromFiniteActors() {
+		addActor(0, 0, 50, 50);
+		addActor(0, 0, Double.POSITIVE_INFINITY, 10);
+		myHash.rebuild(myActors);
+		assertEquals(100, myHash.getCellSize(), 0);
+	}
+
+	@Test
+	public void forgetsOverflowOnRebuild() {
+		addActor(0, 0, 10, 10);
+		addActor(5.43E20, 0, 10, 10);
+		myHash.rebuild(myActors);
+		myActors.remove(1);
+		addActor(1000, 1000, 10, 10);
+		myHash.rebuild(myActors);
+		assertCandidates(0);
+		assertCandidates(1);
+	}
+
+	private void addActor(double x, double y, double width, double height) {
+		Bounds bounds = new BoundingBox(x, y, width, height);
+		myActors.add((IPlayActor) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { IPlayActor.class }, (proxy, method, args) -> {
+					if (method.getName().equals("getBounds")) {
+						return bounds;
+					}
+					throw new UnsupportedOperationException(method.getName());
+				}));
+	}
+
+	private void assertCandidates(int index, Integer... expected) {
+		SpatialHash.Candidates candidates = new SpatialHash.Candidates();
+		myHash.findCandidates(index, candidates);
+		List<Integer> found = new ArrayList<>();
+		for (int i = 0; i < candidates.size(); i++) {
+			found.add(candidates.get(i));
+		}
+		assertEquals(Arrays.asList(expected), found);
+	}
+}